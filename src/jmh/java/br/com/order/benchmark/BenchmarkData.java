@@ -0,0 +1,100 @@
+package br.com.order.benchmark;
+
+import br.com.order.dto.OrderItemDTO;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.model.Product;
+import br.com.order.repository.ProductRepository;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados sintéticos compartilhados pelos benchmarks.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static String productId(int index) {
+        return "PROD-%04d".formatted(index);
+    }
+
+    public static List<Product> products(int count) {
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            products.add(Product.builder()
+                    .id((long) i)
+                    .productId(productId(i))
+                    .productName("Produto " + i)
+                    .quantity(1_000)
+                    .unitPrice(new BigDecimal("10.00").add(BigDecimal.valueOf(i)))
+                    .version(0L)
+                    .build());
+        }
+        return products;
+    }
+
+    public static List<OrderItemDTO> itemRequests(int count) {
+        List<OrderItemDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(OrderItemDTO.builder()
+                    .productId(productId(i))
+                    .productName("Produto " + i)
+                    .quantity(1 + i % 5)
+                    .build());
+        }
+        return items;
+    }
+
+    public static Order order(long id, int itemCount) {
+        Order order = Order.builder()
+                .id(id)
+                .externalId("ORD-" + id)
+                .customerId("CUST-" + id % 100)
+                .status(OrderStatusEnum.CREATED)
+                .createdAt(LocalDateTime.of(2026, 1, 10, 12, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 10, 12, 0))
+                .version(0L)
+                .build();
+
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal unitPrice = new BigDecimal("10.00").add(BigDecimal.valueOf(i));
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(2));
+            items.add(OrderItem.builder()
+                    .id(id * 1_000 + i)
+                    .order(order)
+                    .productId(productId(i))
+                    .productName("Produto " + i)
+                    .quantity(2)
+                    .unitPrice(unitPrice)
+                    .totalPrice(totalPrice)
+                    .build());
+            total = total.add(totalPrice);
+        }
+        order.setItems(items);
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    /**
+     * {@link ProductRepository} em memória que responde apenas {@code findAll}, usado para carregar o catálogo.
+     */
+    public static ProductRepository productRepository(List<Product> products) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> products;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkProductRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.order.benchmark;
+
+import br.com.order.config.CacheConfig;
+import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.mapper.OrderMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leituras nos caches {@code orders} e {@code ordersByExternalId} pela abstração do Spring, com a mesma
+ * configuração Ehcache do {@link CacheConfig}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CacheLookupBenchmark {
+
+    private static final int ENTRIES = 10_000;
+
+    private javax.cache.CacheManager jCacheManager;
+    private Cache orders;
+    private Cache ordersByExternalId;
+
+    @Setup
+    public void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "ordersHeapEntries", (long) ENTRIES);
+        ReflectionTestUtils.setField(cacheConfig, "ordersTimeToLive", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cacheConfig, "ordersByExternalIdHeapEntries", (long) ENTRIES);
+        ReflectionTestUtils.setField(cacheConfig, "ordersByExternalIdTimeToLive", Duration.ofMinutes(10));
+        jCacheManager = cacheConfig.jCacheManager();
+        CacheManager cacheManager = cacheConfig.cacheManager(jCacheManager);
+        orders = cacheManager.getCache("orders");
+        ordersByExternalId = cacheManager.getCache("ordersByExternalId");
+
+        OrderMapperImpl orderMapper = new OrderMapperImpl();
+        for (long id = 0; id < ENTRIES; id++) {
+            OrderResponseDTO dto = orderMapper.toDto(BenchmarkData.order(id, 3));
+            orders.put(id, dto);
+            ordersByExternalId.put(dto.getExternalId(), dto);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jCacheManager.close();
+    }
+
+    @Benchmark
+    public OrderResponseDTO hitById() {
+        return orders.get(ThreadLocalRandom.current().nextLong(ENTRIES), OrderResponseDTO.class);
+    }
+
+    @Benchmark
+    public OrderResponseDTO missById() {
+        return orders.get(ENTRIES + ThreadLocalRandom.current().nextLong(ENTRIES), OrderResponseDTO.class);
+    }
+
+    @Benchmark
+    public OrderResponseDTO hitByExternalId() {
+        return ordersByExternalId.get("ORD-" + ThreadLocalRandom.current().nextLong(ENTRIES),
+                OrderResponseDTO.class);
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.order.benchmark;
+
+import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.dto.response.ProductResponseDTO;
+import br.com.order.mapper.OrderMapper;
+import br.com.order.mapper.OrderMapperImpl;
+import br.com.order.mapper.ProductMapper;
+import br.com.order.mapper.ProductMapperImpl;
+import br.com.order.model.Order;
+import br.com.order.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento MapStruct de um pedido com {@code itemCount} itens e de uma página de {@code itemCount} produtos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private Order order;
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        order = BenchmarkData.order(1L, itemCount);
+        products = BenchmarkData.products(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponseDTO orderToDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public List<ProductResponseDTO> productsToDto() {
+        return products.stream().map(productMapper::toDto).toList();
+    }
+}
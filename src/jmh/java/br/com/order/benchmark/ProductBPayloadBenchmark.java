@@ -0,0 +1,75 @@
+package br.com.order.benchmark;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.service.ExternalIntegrationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por notificação do payload do Product B. Com {@code -prof gc}, a métrica
+ * {@code gc.alloc.rate.norm} mostra os bytes alocados por chamada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductBPayloadBenchmark {
+
+    private ExternalIntegrationService externalIntegrationService;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        externalIntegrationService = new ExternalIntegrationService(null);
+        order = Order.builder()
+                .id(123456L)
+                .externalId("ORD-123456")
+                .customerId("CUST-001")
+                .totalAmount(new BigDecimal("7000.00"))
+                .status(OrderStatusEnum.CREATED)
+                .updatedAt(LocalDateTime.of(2026, 1, 10, 12, 30, 15))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] stringFormat() {
+        return String.format("""
+            {
+                "orderId": "%s",
+                "externalId": "%s",
+                "customerId": "%s",
+                "totalAmount": %s,
+                "status": "%s",
+                "calculatedAt": "%s"
+            }
+            """,
+                order.getId(),
+                order.getExternalId(),
+                order.getCustomerId(),
+                order.getTotalAmount(),
+                order.getStatus(),
+                order.getUpdatedAt()
+        ).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jsonGenerator() {
+        return externalIntegrationService.createProductBPayload(order);
+    }
+}
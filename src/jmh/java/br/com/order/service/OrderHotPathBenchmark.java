@@ -0,0 +1,59 @@
+package br.com.order.service;
+
+import br.com.order.benchmark.BenchmarkData;
+import br.com.order.dto.OrderItemDTO;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem dos itens e cálculo do total pelo {@link OrderPricing}, o mesmo caminho da criação direta, do lote e do
+ * pipeline, com os preços lidos de um {@link ProductCatalog} carregado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderHotPathBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private ProductCatalog productCatalog;
+    private List<OrderItemDTO> items;
+    private List<OrderItem> orderItems;
+
+    @Setup
+    public void setUp() {
+        productCatalog = new ProductCatalog(BenchmarkData.productRepository(BenchmarkData.products(itemCount)));
+        productCatalog.load();
+        items = BenchmarkData.itemRequests(itemCount);
+        orderItems = OrderPricing.items(new Order(), items, productCatalog::get);
+    }
+
+    @Benchmark
+    public List<OrderItem> items() {
+        return OrderPricing.items(new Order(), items, productCatalog::get);
+    }
+
+    @Benchmark
+    public BigDecimal total() {
+        return OrderPricing.total(orderItems);
+    }
+}
@@ -1,19 +1,51 @@
 package br.com.order.config;
 
-
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final String VIRTUAL_THREADS = "spring.threads.virtual.enabled";
+
+    @Value("${" + VIRTUAL_THREADS + "}")
+    private boolean virtualThreads;
+
+    private final AtomicInteger activeVirtualTasks = new AtomicInteger();
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("OrderAsync-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(task -> () -> {
+                activeVirtualTasks.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    activeVirtualTasks.decrementAndGet();
+                }
+            });
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
@@ -23,8 +55,42 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * Com o pool de threads publica as métricas {@code executor.*} do {@link ThreadPoolTaskExecutor} (ativas, fila,
+     * concluídas). Com virtual threads não há fila, então só {@code executor.active} é publicado.
+     */
+    @Bean
+    public MeterBinder taskExecutorMetrics(@Qualifier("taskExecutor") Executor taskExecutor) {
+        return registry -> {
+            if (taskExecutor instanceof ThreadPoolTaskExecutor pool) {
+                new ExecutorServiceMetrics(pool.getThreadPoolExecutor(), "taskExecutor", Tags.empty())
+                        .bindTo(registry);
+                return;
+            }
+            Gauge.builder("executor.active", activeVirtualTasks, AtomicInteger::get)
+                    .tag("name", "taskExecutor")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Com virtual threads não há mais limite de threads na frente do pool do Hikari, então o acesso ao banco
+     * é limitado por um semáforo com o mesmo tamanho do pool.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource
+                        || !environment.getProperty(VIRTUAL_THREADS, Boolean.class, false)) {
+                    return bean;
+                }
+                return new ConnectionLimitingDataSource(dataSource,
+                        environment.getRequiredProperty("spring.datasource.hikari.maximum-pool-size", Integer.class),
+                        Duration.ofMillis(environment.getRequiredProperty(
+                                "spring.datasource.hikari.connection-timeout", Long.class)));
+            }
+        };
     }
 }
@@ -1,19 +1,90 @@
 package br.com.order.config;
 
+import br.com.order.dto.response.OrderResponseDTO;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${app.cache.orders.heap-entries}")
+    private long ordersHeapEntries;
+
+    @Value("${app.cache.orders.time-to-live}")
+    private Duration ordersTimeToLive;
+
+    @Value("${app.cache.orders-by-external-id.heap-entries}")
+    private long ordersByExternalIdHeapEntries;
+
+    @Value("${app.cache.orders-by-external-id.time-to-live}")
+    private Duration ordersByExternalIdTimeToLive;
+
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager jCacheManager() {
+        CacheConfiguration<Long, OrderResponseDTO> orders = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Long.class, OrderResponseDTO.class,
+                        ResourcePoolsBuilder.heap(ordersHeapEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ordersTimeToLive))
+                .build();
+
+        CacheConfiguration<String, OrderResponseDTO> ordersByExternalId = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(String.class, OrderResponseDTO.class,
+                        ResourcePoolsBuilder.heap(ordersByExternalIdHeapEntries))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(ordersByExternalIdTimeToLive))
+                .build();
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:ms-order:cache:" + UUID.randomUUID()),
+                ConfigurationBuilder.newConfigurationBuilder()
+                        .withCache("orders", orders)
+                        .withCache("ordersByExternalId", ordersByExternalId)
+                        .build());
+
+        for (String cacheName : cacheManager.getCacheNames()) {
+            cacheManager.enableStatistics(cacheName, true);
+            cacheManager.enableManagement(cacheName, true);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Publica {@code cache.gets} (hit/miss), {@code cache.puts} e {@code cache.evictions} de cada cache a partir
+     * das estatísticas JCache habilitadas acima.
+     */
+    @Bean
+    public MeterBinder cacheMetrics(javax.cache.CacheManager jCacheManager) {
+        return registry -> {
+            for (String cacheName : jCacheManager.getCacheNames()) {
+                new JCacheMetrics<>(jCacheManager.getCache(cacheName), Tags.empty()).bindTo(registry);
+            }
+        };
+    }
+
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        cacheManager.setCacheNames(java.util.Arrays.asList("orders", "ordersByExternalId", "products"));
+    public CacheManager cacheManager(javax.cache.CacheManager jCacheManager) {
+        JCacheCacheManager cacheManager = new JCacheCacheManager(jCacheManager);
+        cacheManager.setAllowNullValues(false);
         return cacheManager;
     }
 }
@@ -0,0 +1,48 @@
+package br.com.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${app.http-client.version}")
+    private HttpClient.Version version;
+
+    @Value("${app.http-client.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${app.http-client.request-timeout}")
+    private Duration requestTimeout;
+
+    @Bean(destroyMethod = "close")
+    public HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient httpClient, ObservationRegistry observationRegistry,
+                                     MeterRegistry meterRegistry) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        // Apesar do nome, o JdkClientHttpRequestFactory conta esse prazo do envio até o corpo da resposta ser
+        // fechado e cancela a troca quando ele acaba: vale para a requisição inteira, não para cada leitura
+        requestFactory.setReadTimeout(requestTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setObservationRegistry(observationRegistry);
+        restTemplate.getInterceptors().add(new InFlightRequestsInterceptor(meterRegistry));
+        return restTemplate;
+    }
+}
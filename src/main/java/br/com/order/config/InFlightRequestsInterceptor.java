@@ -0,0 +1,39 @@
+package br.com.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gauge {@code http.client.in.flight} com as requisições em andamento por host. Não é uma métrica do pool de conexões:
+ * o {@link java.net.http.HttpClient} não expõe o pool, e com HTTP/2 várias requisições dividem a mesma conexão.
+ */
+@RequiredArgsConstructor
+class InFlightRequestsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        AtomicInteger counter = inFlight.computeIfAbsent(request.getURI().getAuthority(),
+                authority -> meterRegistry.gauge("http.client.in.flight", Tags.of("client.name", authority),
+                        new AtomicInteger()));
+        counter.incrementAndGet();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            counter.decrementAndGet();
+        }
+    }
+}
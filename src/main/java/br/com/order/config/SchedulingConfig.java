@@ -0,0 +1,15 @@
+package br.com.order.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Liga os jobs {@code @Scheduled} (outbox, ledger de estoque, retomada de pedidos e agregados). Testes que contam
+ * statements desligam com {@code app.scheduling.enabled=false} para não medir o SQL dos jobs.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -2,19 +2,42 @@ package br.com.order.controller;
 
 
 import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
 import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.dto.response.OrderRollupDTO;
+import br.com.order.enums.ExportFormatEnum;
+import br.com.order.enums.OrderAcceptanceModeEnum;
 import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.RollupGranularityEnum;
+import br.com.order.service.OrderExportService;
+import br.com.order.service.OrderImportService;
+import br.com.order.service.OrderPipeline;
+import br.com.order.service.OrderRollupService;
 import br.com.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
@@ -22,14 +45,64 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderImportService orderImportService;
+    private final OrderPipeline orderPipeline;
+    private final OrderExportService orderExportService;
+    private final OrderRollupService orderRollupService;
+
+    @Value("${app.order.acceptance}")
+    private OrderAcceptanceModeEnum acceptanceMode;
 
     @PostMapping
     @Operation(summary = "Criar um novo pedido")
     public ResponseEntity<OrderResponseDTO> createOrder(@Valid @RequestBody OrderRequestDTO request) {
-        OrderResponseDTO response = orderService.createOrder(request);
+        if (acceptanceMode == OrderAcceptanceModeEnum.ASYNC) {
+            OrderResponseDTO response = orderService.acceptOrder(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/orders/" + response.getId()))
+                    .body(response);
+        }
+        OrderResponseDTO response = orderPipeline.isEnabled()
+                ? orderPipeline.process(request)
+                : orderService.createOrder(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Criar pedidos em lote")
+    public ResponseEntity<List<OrderBatchResultDTO>> createOrders(
+            @NotEmpty @RequestBody List<@Valid OrderRequestDTO> requests) {
+        List<OrderBatchResultDTO> response = orderService.createOrders(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Importar pedidos em NDJSON com um resultado por linha")
+    public void importOrders(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        orderImportService.importOrders(request.getInputStream(), response.getOutputStream());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar pedidos e itens criados em um intervalo, em CSV ou NDJSON")
+    public void exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormatEnum format,
+            HttpServletResponse response) throws IOException {
+        boolean csv = format == ExportFormatEnum.CSV;
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-%s-%s.%s\""
+                .formatted(from.toLocalDate(), to.toLocalDate(), csv ? "csv" : "ndjson"));
+        orderExportService.export(from, to, format, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obter pedido por ID do registro")
     public ResponseEntity<OrderResponseDTO> getOrderById(@PathVariable Long id) {
@@ -51,6 +124,15 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Listar pedidos do mais recente para o mais antigo com cursor")
+    public ResponseEntity<CursorPageDTO<OrderResponseDTO>> scrollOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<OrderResponseDTO> response = orderService.scrollOrders(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Obter pedidos por status")
     public ResponseEntity<Page<OrderResponseDTO>> getOrdersByStatus(
@@ -59,6 +141,26 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/status/{status}/scroll")
+    @Operation(summary = "Listar pedidos por status do mais recente para o mais antigo com cursor")
+    public ResponseEntity<CursorPageDTO<OrderResponseDTO>> scrollOrdersByStatus(
+            @PathVariable OrderStatusEnum status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<OrderResponseDTO> response = orderService.scrollOrdersByStatus(status, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/customer/{customerId}")
+    @Operation(summary = "Obter o histórico de pedidos de um cliente, do mais recente para o mais antigo")
+    public ResponseEntity<CursorPageDTO<OrderResponseDTO>> getCustomerOrders(
+            @PathVariable String customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<OrderResponseDTO> response = orderService.getCustomerOrders(customerId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/metrics/today")
     @Operation(summary = "Obter contagem de pedidos diarios")
     public ResponseEntity<Long> getTodayOrdersCount() {
@@ -66,6 +168,21 @@ public class OrderController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/metrics/today/status")
+    @Operation(summary = "Obter contagem de pedidos diarios por status")
+    public ResponseEntity<Map<OrderStatusEnum, Long>> getTodayOrdersCountByStatus() {
+        return ResponseEntity.ok(orderService.getTodayOrdersCountByStatus());
+    }
+
+    @GetMapping("/analytics")
+    @Operation(summary = "Obter pedidos, receita e status por minuto ou por hora em um intervalo")
+    public ResponseEntity<List<OrderRollupDTO>> getOrderAnalytics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") RollupGranularityEnum granularity) {
+        return ResponseEntity.ok(orderRollupService.query(granularity, from, to));
+    }
+
     @PutMapping("/{id}/status/{status}")
     @Operation(summary = "Atualizar status do pedido")
     public ResponseEntity<Void> updateOrderStatus(
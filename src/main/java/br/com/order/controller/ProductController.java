@@ -1,6 +1,7 @@
 package br.com.order.controller;
 
 import br.com.order.dto.request.ProductRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
 import br.com.order.dto.response.ProductResponseDTO;
 import br.com.order.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,4 +42,13 @@ public class ProductController {
         Page<ProductResponseDTO> response = productService.getAllProducts(pageable);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Listar produtos com cursor")
+    public ResponseEntity<CursorPageDTO<ProductResponseDTO>> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageDTO<ProductResponseDTO> response = productService.scrollProducts(cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,22 @@
+package br.com.order.dto.response;
+
+import br.com.order.enums.OrderResultStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResultDTO {
+
+    private Long line;
+    private String externalId;
+    private OrderResultStatusEnum result;
+    private Long orderId;
+    private String message;
+}
@@ -12,7 +12,7 @@ import java.util.List;
 
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Setter
 public class OrderResponseDTO {
 
@@ -0,0 +1,23 @@
+package br.com.order.dto.response;
+
+import br.com.order.enums.OrderStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRollupDTO {
+
+    private LocalDateTime bucketStart;
+    private Long orders;
+    private BigDecimal revenue;
+    private Map<OrderStatusEnum, Long> statuses;
+}
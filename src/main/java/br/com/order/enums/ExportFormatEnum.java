@@ -0,0 +1,6 @@
+package br.com.order.enums;
+
+public enum ExportFormatEnum {
+    CSV,
+    NDJSON
+}
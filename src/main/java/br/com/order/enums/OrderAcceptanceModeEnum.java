@@ -0,0 +1,7 @@
+package br.com.order.enums;
+
+public enum OrderAcceptanceModeEnum {
+    SYNC,
+    ASYNC
+
+}
@@ -0,0 +1,9 @@
+package br.com.order.enums;
+
+public enum OrderRejectionSourceEnum {
+    API,
+    BATCH,
+    IMPORT,
+    PIPELINE,
+    ASYNC
+}
@@ -0,0 +1,11 @@
+package br.com.order.enums;
+
+public enum OrderResultStatusEnum {
+    CREATED,
+    DUPLICATE,
+    INSUFFICIENT_STOCK,
+    PRODUCT_NOT_FOUND,
+    INVALID,
+    FAILED
+
+}
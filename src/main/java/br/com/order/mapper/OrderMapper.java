@@ -1,13 +1,27 @@
 package br.com.order.mapper;
 
+import br.com.order.dto.OrderItemDTO;
 import br.com.order.dto.request.OrderRequestDTO;
 import br.com.order.dto.response.OrderResponseDTO;
 import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface OrderMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "totalAmount", ignore = true)
+    @Mapping(target = "stockReserved", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Order toEntity(OrderRequestDTO dto);
     OrderResponseDTO toDto(Order entity);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "order", ignore = true)
+    OrderItem toEntity(OrderItemDTO dto);
 }
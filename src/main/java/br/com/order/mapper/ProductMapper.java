@@ -3,10 +3,13 @@ import br.com.order.dto.request.ProductRequestDTO;
 import br.com.order.dto.response.ProductResponseDTO;
 import br.com.order.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(ProductRequestDTO dto);
     ProductResponseDTO toDto(Product entity);
 }
@@ -3,6 +3,7 @@ package br.com.order.model;
 import br.com.order.enums.OrderStatusEnum;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,8 +12,9 @@ import java.util.List;
 @Entity
 @Table(name = "orders", indexes = {
         @Index(name = "idx_external_id", columnList = "externalId"),
-        @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_created_at", columnList = "createdAt")
+        @Index(name = "idx_status_created_at_id", columnList = "status, createdAt, id"),
+        @Index(name = "idx_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_customer_created_at_id", columnList = "customerId, createdAt DESC, id DESC")
 })
 @Getter
 @Setter
@@ -21,7 +23,8 @@ import java.util.List;
 @Builder
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -40,6 +43,14 @@ public class Order {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> items;
 
+    /**
+     * Estoque já reservado para o pedido. A criação síncrona, o lote e o pipeline reservam antes de gravar; só o
+     * aceite assíncrono deixa a reserva para o {@code OrderProcessor}.
+     */
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean stockReserved;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
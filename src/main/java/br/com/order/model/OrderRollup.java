@@ -0,0 +1,43 @@
+package br.com.order.model;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.RollupGranularityEnum;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "order_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_bucket_status", columnNames = {"granularity", "bucketStart", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_rollups_seq")
+    @SequenceGenerator(name = "order_rollups_seq", sequenceName = "order_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RollupGranularityEnum granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatusEnum status;
+
+    @Column(nullable = false)
+    private Long orders;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal revenue;
+}
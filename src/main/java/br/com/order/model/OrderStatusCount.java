@@ -0,0 +1,6 @@
+package br.com.order.model;
+
+import br.com.order.enums.OrderStatusEnum;
+
+public record OrderStatusCount(OrderStatusEnum status, Long count) {
+}
@@ -0,0 +1,9 @@
+package br.com.order.model;
+
+import br.com.order.enums.OrderStatusEnum;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderStatusSnapshot(OrderStatusEnum status, LocalDateTime createdAt, BigDecimal totalAmount) {
+}
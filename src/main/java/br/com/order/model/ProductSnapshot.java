@@ -0,0 +1,15 @@
+package br.com.order.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public record ProductSnapshot(String productId, String productName, BigDecimal unitPrice, long version) {
+
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+                product.getProductId(),
+                product.getProductName(),
+                product.getUnitPrice().setScale(2, RoundingMode.HALF_UP),
+                product.getVersion() == null ? 0L : product.getVersion());
+    }
+}
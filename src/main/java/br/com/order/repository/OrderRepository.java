@@ -3,15 +3,31 @@ package br.com.order.repository;
 
 import br.com.order.enums.OrderStatusEnum;
 import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.model.OrderStatusCount;
+import br.com.order.model.OrderStatusSnapshot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -20,8 +36,64 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     boolean existsByExternalId(String externalId);
 
+    @Query("SELECT o.externalId FROM Order o WHERE o.externalId IN :externalIds")
+    Set<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT o.externalId FROM Order o WHERE o.createdAt >= :since")
+    Stream<String> streamExternalIdsCreatedSince(@Param("since") LocalDateTime since);
+
     Page<Order> findByStatus(OrderStatusEnum status, Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items i WHERE o.createdAt >= :from AND o.createdAt < :to "
+            + "ORDER BY o.createdAt, o.id, i.id")
+    Stream<Order> streamWithItemsCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT o.id FROM Order o", countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<Long> findPageOfIds(Pageable pageable);
+
+    @Query(value = "SELECT o.id FROM Order o WHERE o.status = :status",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<Long> findPageOfIdsByStatus(@Param("status") OrderStatusEnum status, Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIds(Limit limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsBefore(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Limit limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByStatus(@Param("status") OrderStatusEnum status, Limit limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByStatusBefore(@Param("status") OrderStatusEnum status,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.customerId = :customerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByCustomerId(@Param("customerId") String customerId, Limit limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.customerId = :customerId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Long> findLatestIdsByCustomerIdBefore(@Param("customerId") String customerId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Limit limit);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<Order> findWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
     Page<Order> findByCustomerId(String customerId, Pageable pageable);
 
     @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
@@ -31,10 +103,39 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             Pageable pageable
     );
 
+    @Query("SELECT new br.com.order.model.OrderStatusSnapshot(o.status, o.createdAt, o.totalAmount) FROM Order o "
+            + "WHERE o.id = :id")
+    Optional<OrderStatusSnapshot> findStatusById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findForUpdateById(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new br.com.order.model.OrderStatusSnapshot(o.status, o.createdAt, o.totalAmount) FROM Order o "
+            + "WHERE o.createdAt >= :since")
+    Stream<OrderStatusSnapshot> streamStatusCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.updatedAt < :before ORDER BY o.id")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") OrderStatusEnum status,
+                                            @Param("before") LocalDateTime before,
+                                            Limit limit);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt, o.version = o.version + 1 WHERE o.id = :id")
+    int updateOrderStatus(@Param("id") Long id,
+                          @Param("status") OrderStatusEnum status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
     @Modifying
-    @Query("UPDATE Order o SET o.status = :status WHERE o.id = :id")
-    void updateOrderStatus(@Param("id") Long id, @Param("status") OrderStatusEnum status);
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt, o.version = o.version + 1 "
+            + "WHERE o.id = :id AND o.status = :expected")
+    int updateOrderStatusFrom(@Param("id") Long id,
+                              @Param("expected") OrderStatusEnum expected,
+                              @Param("status") OrderStatusEnum status,
+                              @Param("updatedAt") LocalDateTime updatedAt);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :date")
-    Long countOrdersSince(@Param("date") LocalDateTime date);
+    @Query("SELECT new br.com.order.model.OrderStatusCount(o.status, COUNT(o)) FROM Order o "
+            + "WHERE o.createdAt >= :date GROUP BY o.status")
+    List<OrderStatusCount> countByStatusSince(@Param("date") LocalDateTime date);
 }
\ No newline at end of file
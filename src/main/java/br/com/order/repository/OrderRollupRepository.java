@@ -0,0 +1,29 @@
+package br.com.order.repository;
+
+import br.com.order.enums.RollupGranularityEnum;
+import br.com.order.model.OrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, Long> {
+
+    List<OrderRollup> findByBucketStartGreaterThanEqual(LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM OrderRollup r WHERE r.granularity = :granularity AND r.bucketStart IN :bucketStarts")
+    int deleteBuckets(@Param("granularity") RollupGranularityEnum granularity,
+                      @Param("bucketStarts") Collection<LocalDateTime> bucketStarts);
+
+    @Modifying
+    @Query("DELETE FROM OrderRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteBucketsBefore(@Param("granularity") RollupGranularityEnum granularity,
+                            @Param("before") LocalDateTime before);
+}
@@ -2,12 +2,19 @@ package br.com.order.repository;
 
 
 import br.com.order.model.Product;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     Optional<Product> findByProductId(String productId);
+
+    List<Product> findByProductIdIn(Collection<String> productIds);
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,10 @@
+package br.com.order.repository;
+
+import java.util.SortedMap;
+
+public interface ProductRepositoryCustom {
+
+    int[] decrementStock(SortedMap<String, Integer> quantities);
+
+    int[] incrementStock(SortedMap<String, Integer> quantities);
+}
@@ -0,0 +1,36 @@
+package br.com.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String DECREMENT_STOCK =
+            "UPDATE product SET quantity = quantity - ? WHERE product_id = ? AND quantity >= ?";
+
+    private static final String INCREMENT_STOCK =
+            "UPDATE product SET quantity = quantity + ? WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] decrementStock(SortedMap<String, Integer> quantities) {
+        List<Object[]> args = quantities.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+        return jdbcTemplate.batchUpdate(DECREMENT_STOCK, args);
+    }
+
+    @Override
+    public int[] incrementStock(SortedMap<String, Integer> quantities) {
+        List<Object[]> args = quantities.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        return jdbcTemplate.batchUpdate(INCREMENT_STOCK, args);
+    }
+}
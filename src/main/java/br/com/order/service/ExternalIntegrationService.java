@@ -1,69 +1,89 @@
 package br.com.order.service;
 
 import br.com.order.model.Order;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.core.json.JsonFactory;
 
-import java.util.concurrent.CompletableFuture;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-
-@Slf4j
 public class ExternalIntegrationService {
 
-    private final RestTemplate restTemplate;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int PAYLOAD_INITIAL_SIZE = 256;
+
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString EXTERNAL_ID = new SerializedString("externalId");
+    private static final SerializedString CUSTOMER_ID = new SerializedString("customerId");
+    private static final SerializedString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CALCULATED_AT = new SerializedString("calculatedAt");
 
+    private final RestTemplate restTemplate;
 
     @Value("${app.external.product-b.endpoint}")
     private String productBEndpoint;
 
-    @Async
-    public CompletableFuture<Void> notifyProductB(Order order) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            String payload = createProductBPayload(order);
-            HttpEntity<String> request = new HttpEntity<>(payload, headers);
-
-            restTemplate.postForObject(productBEndpoint, request, String.class);
+    @Timed("product.b.client")
+    public void sendToProductB(byte[] payload) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
 
-            log.info("Order {} notified to Product B successfully", order.getExternalId());
-
-        } catch (Exception e) {
-            log.error("Error notifying Product B for order {}: {}",
-                    order.getExternalId(), e.getMessage());
+        HttpEntity<byte[]> request = new HttpEntity<>(payload, headers);
+        restTemplate.postForObject(productBEndpoint, request, String.class);
+    }
 
+    @Timed("product.b.client")
+    public void sendBatchToProductB(List<byte[]> payloads) {
+        int length = payloads.size() + 1;
+        for (byte[] payload : payloads) {
+            length += payload.length;
         }
 
-        return CompletableFuture.completedFuture(null);
+        byte[] body = new byte[Math.max(length, 2)];
+        int position = 0;
+        body[position++] = '[';
+        for (byte[] payload : payloads) {
+            if (position > 1) {
+                body[position++] = ',';
+            }
+            System.arraycopy(payload, 0, body, position, payload.length);
+            position += payload.length;
+        }
+        body[position] = ']';
+        sendToProductB(body);
     }
 
-    private String createProductBPayload(Order order) {
-        return String.format("""
-            {
-                "orderId": "%s",
-                "externalId": "%s",
-                "customerId": "%s",
-                "totalAmount": %s,
-                "status": "%s",
-                "calculatedAt": "%s"
-            }
-            """,
-                order.getId(),
-                order.getExternalId(),
-                order.getCustomerId(),
-                order.getTotalAmount(),
-                order.getStatus(),
-                order.getUpdatedAt()
-        );
+    public byte[] createProductBPayload(Order order) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(PAYLOAD_INITIAL_SIZE);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(ObjectWriteContext.empty(), out)) {
+            generator.writeStartObject();
+            generator.writeName(ORDER_ID);
+            generator.writeString(order.getId() == null ? null : order.getId().toString());
+            generator.writeName(EXTERNAL_ID);
+            generator.writeString(order.getExternalId());
+            generator.writeName(CUSTOMER_ID);
+            generator.writeString(order.getCustomerId());
+            generator.writeName(TOTAL_AMOUNT);
+            generator.writeNumber(order.getTotalAmount());
+            generator.writeName(STATUS);
+            generator.writeString(order.getStatus() == null ? null : order.getStatus().name());
+            generator.writeName(CALCULATED_AT);
+            generator.writeString(order.getUpdatedAt() == null ? null : order.getUpdatedAt().toString());
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
     }
 }
@@ -0,0 +1,149 @@
+package br.com.order.service;
+
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.ProductNotFoundException;
+import br.com.order.model.Product;
+import br.com.order.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerService {
+
+    private static final int STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock[] stripes = newStripes();
+
+    public void reserve(Map<String, Integer> quantities) {
+        load(quantities.keySet());
+
+        List<ReentrantLock> locks = lockStripes(quantities.keySet());
+        try {
+            quantities.forEach((productId, quantity) -> {
+                int current = available.get(productId).get();
+                if (current < quantity) {
+                    throw new InsufficientStockException(
+                            String.format("Estoque insuficiente para o produto %s. Disponível: %d, Solicitado: %d",
+                                    productId, current, quantity));
+                }
+            });
+            quantities.forEach((productId, quantity) -> available.get(productId).addAndGet(-quantity));
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+
+        dirty.addAll(quantities.keySet());
+        releaseOnRollback(quantities);
+    }
+
+    public void release(Map<String, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            AtomicInteger counter = available.get(productId);
+            if (counter != null) {
+                counter.addAndGet(quantity);
+                dirty.add(productId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.flush-interval-ms}")
+    public void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<String> productIds = new ArrayList<>(dirty);
+        dirty.removeAll(productIds);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Product> products = productRepository.findByProductIdIn(productIds);
+                products.forEach(product -> product.setQuantity(available.get(product.getProductId()).get()));
+                productRepository.saveAll(products);
+            });
+            log.debug("Estoque de {} produtos gravado no banco", productIds.size());
+        } catch (RuntimeException e) {
+            dirty.addAll(productIds);
+            log.error("Erro gravando estoque de {} produtos: {}", productIds.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void load(Set<String> productIds) {
+        List<String> missing = productIds.stream()
+                .filter(productId -> !available.containsKey(productId))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        productRepository.findByProductIdIn(missing).forEach(product ->
+                available.putIfAbsent(product.getProductId(), new AtomicInteger(product.getQuantity())));
+
+        missing.stream()
+                .filter(productId -> !available.containsKey(productId))
+                .findFirst()
+                .ifPresent(productId -> {
+                    throw new ProductNotFoundException("Produto não encontrado com productId: " + productId);
+                });
+    }
+
+    private List<ReentrantLock> lockStripes(Set<String> productIds) {
+        Set<Integer> indexes = new TreeSet<>();
+        productIds.forEach(productId -> indexes.add(Math.floorMod(productId.hashCode(), STRIPES)));
+
+        List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            stripes[index].lock();
+            locks.add(stripes[index]);
+        }
+        return locks;
+    }
+
+    private void releaseOnRollback(Map<String, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(quantities);
+                }
+            }
+        });
+    }
+
+    private static ReentrantLock[] newStripes() {
+        ReentrantLock[] locks = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.order.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remove dos caches só as entradas do pedido que mudou de status, depois do commit. As leituras
+ * ({@code @Cacheable(sync = true)}) carregam a entrada com a chave travada, então uma leitura que pegou a linha antiga
+ * antes do commit termina de gravar antes da remoção, e a próxima leitura já vê o status novo.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderCacheService {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long id, String externalId) {
+        Cache orders = cacheManager.getCache("orders");
+        Cache ordersByExternalId = cacheManager.getCache("ordersByExternalId");
+        TransactionCallbacks.afterCommit(() -> {
+            orders.evict(id);
+            ordersByExternalId.evict(externalId);
+        });
+    }
+}
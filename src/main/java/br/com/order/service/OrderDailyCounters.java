@@ -0,0 +1,110 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores em memória dos pedidos criados hoje, no total e por status, para que a métrica diária não faça um
+ * COUNT a cada consulta. São carregados do banco na subida, antes de a aplicação aceitar requisições, e atualizados
+ * depois do commit de cada criação ou mudança de status. Na virada do dia os contadores recomeçam do zero; eventos
+ * de pedidos criados em outro dia são ignorados.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderDailyCounters {
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private final AtomicReference<DayCounters> current = new AtomicReference<>(new DayCounters(LocalDate.MIN));
+
+    @PostConstruct
+    public void rebuild() {
+        DayCounters counters = new DayCounters(LocalDate.now(clock));
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.countByStatusSince(counters.day.atStartOfDay()).forEach(count -> {
+                    counters.total.add(count.count());
+                    counters.byStatus.get(count.status()).add(count.count());
+                }));
+        current.set(counters);
+        log.info("Contadores diários carregados com {} pedidos de {}", counters.total.sum(), counters.day);
+    }
+
+    public void created(LocalDateTime createdAt, OrderStatusEnum status) {
+        TransactionCallbacks.afterCommit(() -> {
+            DayCounters counters = countersOf(createdAt);
+            if (counters != null) {
+                counters.total.increment();
+                counters.byStatus.get(status).increment();
+            }
+        });
+    }
+
+    public void statusChanged(LocalDateTime createdAt, OrderStatusEnum from, OrderStatusEnum to) {
+        if (from == to) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            DayCounters counters = countersOf(createdAt);
+            if (counters != null) {
+                counters.byStatus.get(from).decrement();
+                counters.byStatus.get(to).increment();
+            }
+        });
+    }
+
+    public long total() {
+        return today().total.sum();
+    }
+
+    public Map<OrderStatusEnum, Long> byStatus() {
+        Map<OrderStatusEnum, Long> counts = new EnumMap<>(OrderStatusEnum.class);
+        today().byStatus.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    private DayCounters countersOf(LocalDateTime createdAt) {
+        DayCounters counters = today();
+        return createdAt != null && createdAt.toLocalDate().equals(counters.day) ? counters : null;
+    }
+
+    private DayCounters today() {
+        LocalDate today = LocalDate.now(clock);
+        DayCounters counters = current.get();
+        while (!counters.day.equals(today)) {
+            DayCounters next = new DayCounters(today);
+            counters = current.compareAndSet(counters, next) ? next : current.get();
+        }
+        return counters;
+    }
+
+    private static final class DayCounters {
+
+        private final LocalDate day;
+        private final LongAdder total = new LongAdder();
+        private final Map<OrderStatusEnum, LongAdder> byStatus = new EnumMap<>(OrderStatusEnum.class);
+
+        private DayCounters(LocalDate day) {
+            this.day = day;
+            for (OrderStatusEnum status : OrderStatusEnum.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+    }
+}
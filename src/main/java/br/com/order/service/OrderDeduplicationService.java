@@ -0,0 +1,121 @@
+package br.com.order.service;
+
+import br.com.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderDeduplicationService {
+
+    private static final int SEGMENTS = 4;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.deduplication.enabled}")
+    private boolean enabled;
+
+    @Value("${app.deduplication.ttl-minutes}")
+    private long ttlMinutes;
+
+    @Value("${app.deduplication.expected-insertions}")
+    private long expectedInsertions;
+
+    @Value("${app.deduplication.false-positive-rate}")
+    private double falsePositiveRate;
+
+    private Clock clock = Clock.systemUTC();
+
+    private volatile List<Segment> segments = List.of();
+
+    public boolean isDuplicate(String externalId) {
+        return mightExist(externalId) && orderRepository.existsByExternalId(externalId);
+    }
+
+    public boolean mightExist(String externalId) {
+        if (!enabled) {
+            return true;
+        }
+        for (Segment segment : currentSegments()) {
+            if (segment.filter().mightContain(externalId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void record(String externalId) {
+        if (enabled) {
+            currentSegments().getFirst().filter().put(externalId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusMinutes(ttlMinutes);
+        AtomicLong loaded = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> externalIds = orderRepository.streamExternalIdsCreatedSince(since)) {
+                externalIds.forEach(externalId -> {
+                    record(externalId);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+        log.info("Índice de deduplicação carregado com {} externalIds", loaded.get());
+    }
+
+    private List<Segment> currentSegments() {
+        List<Segment> current = segments;
+        Instant now = clock.instant();
+        if (current.isEmpty() || !now.isBefore(current.getFirst().start().plus(segmentDuration()))) {
+            current = rotate(now);
+        }
+        return current;
+    }
+
+    private synchronized List<Segment> rotate(Instant now) {
+        List<Segment> current = segments;
+        if (!current.isEmpty() && now.isBefore(current.getFirst().start().plus(segmentDuration()))) {
+            return current;
+        }
+
+        List<Segment> rotated = new ArrayList<>(SEGMENTS + 1);
+        rotated.add(new Segment(now, new BloomFilter(expectedInsertions, falsePositiveRate)));
+        Instant expiry = now.minus(Duration.ofMinutes(ttlMinutes)).minus(segmentDuration());
+        current.stream()
+                .filter(segment -> segment.start().isAfter(expiry))
+                .limit(SEGMENTS)
+                .forEach(rotated::add);
+
+        segments = List.copyOf(rotated);
+        return segments;
+    }
+
+    private Duration segmentDuration() {
+        return Duration.ofMinutes(ttlMinutes).dividedBy(SEGMENTS);
+    }
+
+    private record Segment(Instant start, BloomFilter filter) {
+    }
+}
@@ -0,0 +1,197 @@
+package br.com.order.service;
+
+import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderImportService {
+
+    private static final List<ImportLine> END_OF_STREAM = List.of();
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Executor taskExecutor;
+    private final OrderRejections orderRejections;
+
+    @Value("${app.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.import.queue-capacity}")
+    private int queueCapacity;
+
+    public void importOrders(InputStream input, OutputStream output) throws IOException {
+        BlockingQueue<List<ImportLine>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CompletableFuture<Void> processor = CompletableFuture.runAsync(() -> processChunks(queue, output), taskExecutor);
+
+        long lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<ImportLine> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(lineNumber, line));
+                if (chunk.size() >= chunkSize) {
+                    enqueue(queue, chunk, processor);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                enqueue(queue, chunk, processor);
+            }
+        } finally {
+            if (!processor.isDone()) {
+                enqueue(queue, END_OF_STREAM, processor);
+            }
+        }
+
+        await(processor);
+        log.info("Importação NDJSON finalizada: {} linhas lidas", lineNumber);
+    }
+
+    private void enqueue(BlockingQueue<List<ImportLine>> queue, List<ImportLine> chunk,
+                         CompletableFuture<Void> processor) throws IOException {
+        try {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (processor.isDone()) {
+                    await(processor);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            processor.cancel(true);
+            throw new IllegalStateException("Importação interrompida", e);
+        }
+    }
+
+    private void await(CompletableFuture<Void> processor) throws IOException {
+        try {
+            processor.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void processChunks(BlockingQueue<List<ImportLine>> queue, OutputStream output) {
+        try {
+            List<ImportLine> chunk;
+            while (!(chunk = queue.take()).isEmpty()) {
+                for (OrderBatchResultDTO result : process(chunk)) {
+                    output.write(objectMapper.writeValueAsBytes(result));
+                    output.write('\n');
+                }
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<OrderBatchResultDTO> process(List<ImportLine> chunk) {
+        List<OrderRequestDTO> requests = chunk.stream()
+                .filter(line -> line.request() != null)
+                .map(ImportLine::request)
+                .toList();
+
+        List<OrderBatchResultDTO> created;
+        try {
+            created = requests.isEmpty()
+                    ? List.of()
+                    : orderService.createOrders(requests, OrderRejectionSourceEnum.IMPORT);
+        } catch (RuntimeException e) {
+            log.error("Erro importando bloco de {} pedidos: {}", requests.size(), e.getMessage());
+            created = requests.stream()
+                    .map(request -> OrderBatchResultDTO.builder()
+                            .externalId(request.getExternalId())
+                            .result(OrderResultStatusEnum.FAILED)
+                            .message(e.getMessage())
+                            .build())
+                    .toList();
+            orderRejections.record(OrderRejectionSourceEnum.IMPORT, created);
+        }
+
+        Iterator<OrderBatchResultDTO> createdResults = created.iterator();
+        List<OrderBatchResultDTO> results = new ArrayList<>(chunk.size());
+        for (ImportLine line : chunk) {
+            OrderBatchResultDTO result;
+            if (line.request() != null) {
+                result = createdResults.next();
+            } else {
+                result = line.error();
+                orderRejections.record(OrderRejectionSourceEnum.IMPORT, OrderResultStatusEnum.INVALID);
+            }
+            result.setLine(line.number());
+            results.add(result);
+        }
+        return results;
+    }
+
+    private ImportLine parse(long lineNumber, String line) {
+        OrderRequestDTO request;
+        try {
+            request = objectMapper.readValue(line, OrderRequestDTO.class);
+        } catch (JacksonException e) {
+            return ImportLine.invalid(lineNumber, null, "JSON inválido: " + e.getOriginalMessage());
+        }
+
+        Set<ConstraintViolation<OrderRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return ImportLine.invalid(lineNumber, request.getExternalId(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return new ImportLine(lineNumber, request, null);
+    }
+
+    private record ImportLine(long number, OrderRequestDTO request, OrderBatchResultDTO error) {
+
+        static ImportLine invalid(long number, String externalId, String message) {
+            return new ImportLine(number, null, OrderBatchResultDTO.builder()
+                    .externalId(externalId)
+                    .result(OrderResultStatusEnum.INVALID)
+                    .message(message)
+                    .build());
+        }
+    }
+}
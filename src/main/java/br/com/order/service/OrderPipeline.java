@@ -0,0 +1,258 @@
+package br.com.order.service;
+
+import br.com.order.dto.OrderItemDTO;
+import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.exception.DuplicateOrderException;
+import br.com.order.exception.ProductNotFoundException;
+import br.com.order.mapper.OrderMapper;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.model.ProductSnapshot;
+import br.com.order.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Criação de pedidos em estágios (validate → price → reserve → persist → notify), cada um com fila e workers
+ * próprios, no estilo SEDA.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderPipeline {
+
+    private final OrderRepository orderRepository;
+    private final ProductCatalog productCatalog;
+    private final StockReservationService stockReservationService;
+    private final OrderDeduplicationService orderDeduplicationService;
+    private final OutboxService outboxService;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OrderDailyCounters orderDailyCounters;
+    private final OrderRollupService orderRollupService;
+    private final OrderRejections orderRejections;
+
+    @Value("${app.order.pipeline.enabled}")
+    private boolean enabled;
+
+    @Value("${app.order.pipeline.validate.workers}")
+    private int validateWorkers;
+
+    @Value("${app.order.pipeline.validate.queue-capacity}")
+    private int validateQueueCapacity;
+
+    @Value("${app.order.pipeline.price.workers}")
+    private int priceWorkers;
+
+    @Value("${app.order.pipeline.price.queue-capacity}")
+    private int priceQueueCapacity;
+
+    @Value("${app.order.pipeline.reserve.workers}")
+    private int reserveWorkers;
+
+    @Value("${app.order.pipeline.reserve.queue-capacity}")
+    private int reserveQueueCapacity;
+
+    @Value("${app.order.pipeline.persist.workers}")
+    private int persistWorkers;
+
+    @Value("${app.order.pipeline.persist.queue-capacity}")
+    private int persistQueueCapacity;
+
+    @Value("${app.order.pipeline.notify.workers}")
+    private int notifyWorkers;
+
+    @Value("${app.order.pipeline.notify.queue-capacity}")
+    private int notifyQueueCapacity;
+
+    private List<PipelineStage<OrderJob>> stages = List.of();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        stages = List.of(
+                new PipelineStage<>("validate", validateWorkers, validateQueueCapacity, this::validate, meterRegistry),
+                new PipelineStage<>("price", priceWorkers, priceQueueCapacity, this::price, meterRegistry),
+                new PipelineStage<>("reserve", reserveWorkers, reserveQueueCapacity, this::reserve, meterRegistry),
+                new PipelineStage<>("persist", persistWorkers, persistQueueCapacity, this::persist, meterRegistry),
+                new PipelineStage<>("notify", notifyWorkers, notifyQueueCapacity, this::notifyProductB, meterRegistry));
+        stages.forEach(PipelineStage::start);
+        log.info("Pipeline de pedidos iniciado com {} estágios", stages.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        stages.forEach(PipelineStage::stop);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public OrderResponseDTO process(OrderRequestDTO request) {
+        try {
+            return submit(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<OrderResponseDTO> submit(OrderRequestDTO request) {
+        CompletableFuture<OrderJob> job = CompletableFuture.completedFuture(new OrderJob(request));
+        for (PipelineStage<OrderJob> stage : stages) {
+            job = job.thenCompose(stage::submit);
+        }
+        return job.thenApply(OrderJob::response)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        orderRejections.record(OrderRejectionSourceEnum.PIPELINE,
+                                error instanceof CompletionException ? error.getCause() : error);
+                    }
+                });
+    }
+
+    private OrderJob validate(OrderJob job) {
+        OrderRequestDTO request = job.request;
+        if (orderDeduplicationService.isDuplicate(request.getExternalId())) {
+            throw new DuplicateOrderException("Pedido com externalId " + request.getExternalId() + " já existe");
+        }
+
+        job.products = productCatalog.getAll(request.getItems().stream()
+                .map(OrderItemDTO::getProductId)
+                .collect(Collectors.toSet()));
+        request.getItems().stream()
+                .map(OrderItemDTO::getProductId)
+                .filter(productId -> !job.products.containsKey(productId))
+                .findFirst()
+                .ifPresent(productId -> {
+                    throw new ProductNotFoundException("Produto não encontrado com productId: " + productId);
+                });
+        return job;
+    }
+
+    private OrderJob price(OrderJob job) {
+        OrderRequestDTO request = job.request;
+        Order order = Order.builder()
+                .externalId(request.getExternalId())
+                .customerId(request.getCustomerId())
+                .status(OrderStatusEnum.PROCESSING)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        List<OrderItem> items = OrderPricing.items(order, request.getItems(), job.products::get);
+
+        order.setItems(items);
+        order.setTotalAmount(OrderPricing.total(items));
+        job.order = order;
+        job.quantities = items.stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+        return job;
+    }
+
+    private OrderJob reserve(OrderJob job) {
+        stockReservationService.reserve(job.quantities);
+        job.order.setStockReserved(true);
+        return job;
+    }
+
+    private OrderJob persist(OrderJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                job.order = orderRepository.saveAndFlush(job.order);
+                orderDailyCounters.created(job.order.getCreatedAt(), job.order.getStatus());
+                orderRollupService.created(job.order.getCreatedAt(), job.order.getTotalAmount(),
+                        job.order.getStatus());
+            });
+        } catch (RuntimeException e) {
+            stockReservationService.release(job.quantities);
+            if (e instanceof DataIntegrityViolationException) {
+                throw new DuplicateOrderException(
+                        "Pedido com externalId " + job.request.getExternalId() + " já existe", e);
+            }
+            throw e;
+        }
+        orderDeduplicationService.record(job.order.getExternalId());
+        return job;
+    }
+
+    private OrderJob notifyProductB(OrderJob job) {
+        Order order = job.order;
+        LocalDateTime updatedAt = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (orderRepository.updateOrderStatusFrom(order.getId(), OrderStatusEnum.PROCESSING,
+                        OrderStatusEnum.CREATED, updatedAt) == 0) {
+                    log.info("Pedido {} já foi alterado por outro processamento", order.getExternalId());
+                    return;
+                }
+                orderDailyCounters.statusChanged(order.getCreatedAt(), OrderStatusEnum.PROCESSING,
+                        OrderStatusEnum.CREATED);
+                orderRollupService.statusChanged(order.getCreatedAt(), order.getTotalAmount(),
+                        OrderStatusEnum.PROCESSING, OrderStatusEnum.CREATED);
+                order.setStatus(OrderStatusEnum.CREATED);
+                order.setUpdatedAt(updatedAt);
+                outboxService.enqueueProductB(order);
+            });
+            log.info("Pedido criado: {}", order.getExternalId());
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (orderRepository.updateOrderStatusFrom(order.getId(), OrderStatusEnum.PROCESSING,
+                        OrderStatusEnum.FAILED, updatedAt) > 0) {
+                    orderDailyCounters.statusChanged(order.getCreatedAt(), OrderStatusEnum.PROCESSING,
+                            OrderStatusEnum.FAILED);
+                    orderRollupService.statusChanged(order.getCreatedAt(), order.getTotalAmount(),
+                            OrderStatusEnum.PROCESSING, OrderStatusEnum.FAILED);
+                    order.setStatus(OrderStatusEnum.FAILED);
+                    order.setUpdatedAt(updatedAt);
+                    stockReservationService.release(job.quantities);
+                    orderRejections.record(OrderRejectionSourceEnum.PIPELINE, OrderResultStatusEnum.FAILED);
+                }
+            });
+            log.error("Erro processando pedido {}: {}", order.getExternalId(), e.getMessage());
+        }
+        job.response = orderMapper.toDto(order);
+        return job;
+    }
+
+    private static final class OrderJob {
+
+        private final OrderRequestDTO request;
+        private Map<String, ProductSnapshot> products;
+        private Order order;
+        private Map<String, Integer> quantities;
+        private OrderResponseDTO response;
+
+        private OrderJob(OrderRequestDTO request) {
+            this.request = request;
+        }
+
+        private OrderResponseDTO response() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.order.service;
+
+import br.com.order.dto.OrderItemDTO;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.model.ProductSnapshot;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Montagem dos itens e do total de um pedido a partir dos produtos do catálogo, comum à criação direta, ao lote e ao
+ * pipeline.
+ */
+final class OrderPricing {
+
+    private OrderPricing() {
+    }
+
+    static List<OrderItem> items(Order order, List<OrderItemDTO> items, Function<String, ProductSnapshot> products) {
+        return items.stream()
+                .map(itemDto -> item(order, itemDto, products.apply(itemDto.getProductId())))
+                .toList();
+    }
+
+    static BigDecimal total(List<OrderItem> items) {
+        return items.stream()
+                .map(OrderItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static OrderItem item(Order order, OrderItemDTO itemDto, ProductSnapshot product) {
+        BigDecimal unitPrice = product.unitPrice();
+        return OrderItem.builder()
+                .order(order)
+                .productId(itemDto.getProductId())
+                .productName(product.productName())
+                .quantity(itemDto.getQuantity())
+                .unitPrice(unitPrice)
+                .totalPrice(unitPrice.multiply(BigDecimal.valueOf(itemDto.getQuantity())))
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderProcessor {
+
+    private final OrderRepository orderRepository;
+    private final StockReservationService stockReservationService;
+    private final OutboxService outboxService;
+    private final OrderCacheService orderCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderDailyCounters orderDailyCounters;
+    private final OrderRollupService orderRollupService;
+    private final OrderRejections orderRejections;
+    private final Executor taskExecutor;
+
+    @Value("${app.order.recovery.stale-after}")
+    private Duration staleAfter;
+
+    @Value("${app.order.recovery.batch-size}")
+    private int recoveryBatchSize;
+
+    @Async
+    public void process(Long orderId) {
+        run(orderId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order.recovery.interval}")
+    public void recover() {
+        List<Long> stale = orderRepository.findIdsByStatusUpdatedBefore(OrderStatusEnum.PROCESSING,
+                LocalDateTime.now().minus(staleAfter), Limit.of(recoveryBatchSize));
+        if (stale.isEmpty()) {
+            return;
+        }
+        log.warn("Retomando {} pedidos parados em PROCESSING", stale.size());
+        // Chamada interna não passa pelo proxy do @Async, então os pedidos vão direto para o executor
+        for (Long orderId : stale) {
+            try {
+                taskExecutor.execute(() -> run(orderId));
+            } catch (RejectedExecutionException e) {
+                log.warn("Executor cheio, pedido {} fica para a próxima retomada", orderId);
+                return;
+            }
+        }
+    }
+
+    private void run(Long orderId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(orderId));
+        } catch (OptimisticLockingFailureException e) {
+            log.info("Pedido {} já foi alterado por outro processamento", orderId);
+        } catch (Exception e) {
+            log.error("Erro processando pedido {}: {}", orderId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> fail(orderId, e));
+        }
+    }
+
+    private void complete(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getStatus() != OrderStatusEnum.PROCESSING) {
+            return;
+        }
+
+        // Pedidos do pipeline já chegam com o estoque reservado; reservar de novo descontaria duas vezes
+        if (!order.isStockReserved()) {
+            stockReservationService.reserve(quantities(order));
+            order.setStockReserved(true);
+        }
+        order.setStatus(OrderStatusEnum.CREATED);
+        Order saved = orderRepository.saveAndFlush(order);
+        orderDailyCounters.statusChanged(saved.getCreatedAt(), OrderStatusEnum.PROCESSING, saved.getStatus());
+        orderRollupService.statusChanged(saved.getCreatedAt(), saved.getTotalAmount(), OrderStatusEnum.PROCESSING,
+                saved.getStatus());
+        outboxService.enqueueProductB(saved);
+        orderCacheService.evict(saved.getId(), saved.getExternalId());
+        log.info("Pedido {} processado com sucesso", saved.getExternalId());
+    }
+
+    private void fail(Long orderId, Exception cause) {
+        LocalDateTime updatedAt = LocalDateTime.now();
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || orderRepository.updateOrderStatusFrom(orderId, OrderStatusEnum.PROCESSING,
+                OrderStatusEnum.FAILED, updatedAt) == 0) {
+            return;
+        }
+        if (order.isStockReserved()) {
+            stockReservationService.release(quantities(order));
+        }
+        orderDailyCounters.statusChanged(order.getCreatedAt(), OrderStatusEnum.PROCESSING, OrderStatusEnum.FAILED);
+        orderRollupService.statusChanged(order.getCreatedAt(), order.getTotalAmount(), OrderStatusEnum.PROCESSING,
+                OrderStatusEnum.FAILED);
+        orderCacheService.evict(orderId, order.getExternalId());
+        orderRejections.record(OrderRejectionSourceEnum.ASYNC, cause);
+    }
+
+    private static Map<String, Integer> quantities(Order order) {
+        return order.getItems().stream()
+                .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.OrderBatchResultDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
+import br.com.order.exception.DuplicateOrderException;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Contador {@code order.rejections} dos pedidos recusados ou que terminaram em {@code FAILED}, com a origem
+ * ({@code source}) e o motivo ({@code reason}). Cada caminho conta no ponto em que decide a recusa, então os lotes,
+ * as importações, o pipeline e o processamento assíncrono também entram, e não só as respostas de erro da API.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderRejections {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(OrderRejectionSourceEnum source, OrderResultStatusEnum reason) {
+        meterRegistry.counter("order.rejections",
+                        "source", source.name().toLowerCase(Locale.ROOT),
+                        "reason", reason.name().toLowerCase(Locale.ROOT))
+                .increment();
+    }
+
+    public void record(OrderRejectionSourceEnum source, Throwable error) {
+        record(source, reasonOf(error));
+    }
+
+    public void record(OrderRejectionSourceEnum source, List<OrderBatchResultDTO> results) {
+        for (OrderBatchResultDTO result : results) {
+            if (result.getResult() != null && result.getResult() != OrderResultStatusEnum.CREATED) {
+                record(source, result.getResult());
+            }
+        }
+    }
+
+    static OrderResultStatusEnum reasonOf(Throwable error) {
+        return switch (error) {
+            case DuplicateOrderException e -> OrderResultStatusEnum.DUPLICATE;
+            case InsufficientStockException e -> OrderResultStatusEnum.INSUFFICIENT_STOCK;
+            case ProductNotFoundException e -> OrderResultStatusEnum.PRODUCT_NOT_FOUND;
+            default -> OrderResultStatusEnum.FAILED;
+        };
+    }
+}
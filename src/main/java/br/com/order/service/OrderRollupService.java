@@ -0,0 +1,246 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.OrderRollupDTO;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.RollupGranularityEnum;
+import br.com.order.model.OrderRollup;
+import br.com.order.model.OrderStatusSnapshot;
+import br.com.order.repository.OrderRepository;
+import br.com.order.repository.OrderRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Agregados de pedidos por minuto e por hora: quantidade, receita e status dos pedidos criados em cada faixa. As
+ * faixas ficam em janelas circulares em memória, atualizadas depois do commit de cada criação ou mudança de status,
+ * e as consultas por intervalo não vão ao banco.
+ * <p>
+ * As faixas fechadas e alteradas são gravadas periodicamente em {@code order_rollups}. Na subida as janelas são
+ * recarregadas dessa tabela e só os pedidos criados depois da última faixa gravada são lidos de {@code orders}.
+ * Mudanças de status de pedidos antigos feitas depois do último snapshot se perdem se a aplicação cair sem passar
+ * pelo desligamento normal.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderRollupService {
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.analytics.minute-retention}")
+    private Duration minuteRetention;
+
+    @Value("${app.analytics.hour-retention}")
+    private Duration hourRetention;
+
+    @Value("${app.analytics.snapshot-grace}")
+    private Duration snapshotGrace;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private Map<RollupGranularityEnum, RollupRing> rings = Map.of();
+
+    public void created(LocalDateTime createdAt, BigDecimal totalAmount, OrderStatusEnum status) {
+        long cents = cents(totalAmount);
+        TransactionCallbacks.afterCommit(() -> add(createdAt, status, 1, cents));
+    }
+
+    public void statusChanged(LocalDateTime createdAt, BigDecimal totalAmount,
+                              OrderStatusEnum from, OrderStatusEnum to) {
+        if (from == to) {
+            return;
+        }
+        long cents = cents(totalAmount);
+        TransactionCallbacks.afterCommit(() -> {
+            add(createdAt, from, -1, -cents);
+            add(createdAt, to, 1, cents);
+        });
+    }
+
+    /**
+     * Uma entrada por faixa de {@code [from, to)}, inclusive as vazias, limitada à janela da granularidade. A receita
+     * não inclui pedidos FAILED.
+     */
+    public List<OrderRollupDTO> query(RollupGranularityEnum granularity, LocalDateTime from, LocalDateTime to) {
+        RollupRing ring = rings.get(granularity);
+        long current = ring.slotOf(LocalDateTime.now(clock));
+        List<OrderRollupDTO> result = new ArrayList<>();
+        for (long slot = Math.max(ring.slotOf(from), current - ring.size() + 1);
+             slot <= current && ring.startOf(slot).isBefore(to); slot++) {
+            result.add(toDto(ring.startOf(slot), ring.peek(slot)));
+        }
+        return result;
+    }
+
+    @PostConstruct
+    public void restore() {
+        Map<RollupGranularityEnum, RollupRing> restored = new EnumMap<>(RollupGranularityEnum.class);
+        restored.put(RollupGranularityEnum.MINUTE, new RollupRing(Duration.ofMinutes(1), minuteRetention));
+        restored.put(RollupGranularityEnum.HOUR, new RollupRing(Duration.ofHours(1), hourRetention));
+        rings = restored;
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        RollupRing hours = restored.get(RollupGranularityEnum.HOUR);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<OrderRollup> rows = orderRollupRepository.findByBucketStartGreaterThanEqual(now.minus(hourRetention));
+            rows.forEach(row -> add(restored.get(row.getGranularity()), row.getBucketStart(), now, row.getStatus(),
+                    row.getOrders(), cents(row.getRevenue())));
+            restored.values().forEach(ring -> ring.forEach(RollupRing.Bucket::clean));
+
+            // Horas ainda abertas no último snapshot só têm as faixas de minuto gravadas
+            Set<LocalDateTime> savedHours = new HashSet<>();
+            LocalDateTime resumeFrom = now.minus(hourRetention);
+            for (OrderRollup row : rows) {
+                if (row.getGranularity() == RollupGranularityEnum.HOUR) {
+                    savedHours.add(row.getBucketStart());
+                    resumeFrom = max(resumeFrom, row.getBucketStart().plusHours(1));
+                }
+            }
+            for (OrderRollup row : rows) {
+                if (row.getGranularity() == RollupGranularityEnum.MINUTE) {
+                    resumeFrom = max(resumeFrom, row.getBucketStart().plusMinutes(1));
+                    if (!savedHours.contains(hours.startOf(hours.slotOf(row.getBucketStart())))) {
+                        add(hours, row.getBucketStart(), now, row.getStatus(), row.getOrders(),
+                                cents(row.getRevenue()));
+                    }
+                }
+            }
+
+            try (Stream<OrderStatusSnapshot> orders = orderRepository.streamStatusCreatedSince(resumeFrom)) {
+                orders.forEach(order -> restored.values().forEach(ring ->
+                        add(ring, order.createdAt(), now, order.status(), 1, cents(order.totalAmount()))));
+            }
+            log.info("Agregados de pedidos carregados com {} faixas gravadas, pedidos lidos a partir de {}",
+                    rows.size(), resumeFrom);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.snapshot-interval}")
+    public void snapshot() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime watermark = now.minus(snapshotGrace);
+        List<RollupRing.Bucket> written = new ArrayList<>();
+        Map<RollupGranularityEnum, List<LocalDateTime>> bucketStarts = new EnumMap<>(RollupGranularityEnum.class);
+        List<OrderRollup> rows = new ArrayList<>();
+
+        rings.forEach((granularity, ring) -> {
+            long closed = ring.slotOf(watermark);
+            List<LocalDateTime> starts = new ArrayList<>();
+            ring.forEach(bucket -> {
+                if (bucket.slot() < closed && bucket.clean()) {
+                    written.add(bucket);
+                    starts.add(ring.startOf(bucket.slot()));
+                    rows.addAll(toRows(granularity, ring.startOf(bucket.slot()), bucket));
+                }
+            });
+            bucketStarts.put(granularity, starts);
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                bucketStarts.forEach((granularity, starts) -> {
+                    if (!starts.isEmpty()) {
+                        orderRollupRepository.deleteBuckets(granularity, starts);
+                    }
+                });
+                orderRollupRepository.saveAll(rows);
+                orderRollupRepository.deleteBucketsBefore(RollupGranularityEnum.MINUTE, now.minus(minuteRetention));
+                orderRollupRepository.deleteBucketsBefore(RollupGranularityEnum.HOUR, now.minus(hourRetention));
+            });
+            if (!written.isEmpty()) {
+                log.debug("{} faixas de agregados gravadas", written.size());
+            }
+        } catch (RuntimeException e) {
+            written.forEach(RollupRing.Bucket::markDirty);
+            log.error("Erro gravando {} faixas de agregados: {}", written.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    private void add(LocalDateTime createdAt, OrderStatusEnum status, long orders, long cents) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        rings.values().forEach(ring -> add(ring, createdAt, now, status, orders, cents));
+    }
+
+    private static void add(RollupRing ring, LocalDateTime createdAt, LocalDateTime now, OrderStatusEnum status,
+                            long orders, long cents) {
+        if (createdAt == null) {
+            return;
+        }
+        RollupRing.Bucket bucket = ring.bucket(ring.slotOf(createdAt), ring.slotOf(now));
+        if (bucket != null) {
+            bucket.add(status, orders, cents);
+        }
+    }
+
+    private static List<OrderRollup> toRows(RollupGranularityEnum granularity, LocalDateTime bucketStart,
+                                            RollupRing.Bucket bucket) {
+        List<OrderRollup> rows = new ArrayList<>();
+        for (OrderStatusEnum status : OrderStatusEnum.values()) {
+            long orders = bucket.orders(status);
+            if (orders != 0) {
+                rows.add(OrderRollup.builder()
+                        .granularity(granularity)
+                        .bucketStart(bucketStart)
+                        .status(status)
+                        .orders(orders)
+                        .revenue(BigDecimal.valueOf(bucket.revenueCents(status), 2))
+                        .build());
+            }
+        }
+        return rows;
+    }
+
+    private static OrderRollupDTO toDto(LocalDateTime bucketStart, RollupRing.Bucket bucket) {
+        Map<OrderStatusEnum, Long> statuses = new EnumMap<>(OrderStatusEnum.class);
+        long orders = 0;
+        long revenueCents = 0;
+        for (OrderStatusEnum status : OrderStatusEnum.values()) {
+            long count = bucket == null ? 0 : bucket.orders(status);
+            statuses.put(status, count);
+            orders += count;
+            if (bucket != null && status != OrderStatusEnum.FAILED) {
+                revenueCents += bucket.revenueCents(status);
+            }
+        }
+        return OrderRollupDTO.builder()
+                .bucketStart(bucketStart)
+                .orders(orders)
+                .revenue(BigDecimal.valueOf(revenueCents, 2))
+                .statuses(statuses)
+                .build();
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -2,124 +2,276 @@ package br.com.order.service;
 
 import br.com.order.dto.OrderItemDTO;
 import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
 import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
 import br.com.order.enums.OrderStatusEnum;
 import br.com.order.exception.DuplicateOrderException;
 import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.InvalidCursorException;
 import br.com.order.exception.OrderNotFoundException;
 import br.com.order.exception.ProductNotFoundException;
 import br.com.order.mapper.OrderMapper;
 import br.com.order.model.Order;
 import br.com.order.model.OrderItem;
-import br.com.order.model.Product;
+import br.com.order.model.ProductSnapshot;
 import br.com.order.repository.OrderRepository;
 
-import br.com.order.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 
 @Log4j2
 @Service
+@Timed("order.service")
 @RequiredArgsConstructor
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
-    private final ExternalIntegrationService externalIntegrationService;
+    private final ProductCatalog productCatalog;
+    private final OutboxService outboxService;
     private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final StockReservationService stockReservationService;
+    private final OrderDeduplicationService orderDeduplicationService;
+    private final OrderCacheService orderCacheService;
+    private final OrderProcessor orderProcessor;
+    private final OrderDailyCounters orderDailyCounters;
+    private final OrderRollupService orderRollupService;
+    private final OrderRejections orderRejections;
 
-
-    @Autowired @Lazy
-    private OrderService selfOrderService;
+    @Value("${app.batch.size}")
+    private int batchSize;
 
     @Transactional
     public OrderResponseDTO createOrder(OrderRequestDTO request) {
+        Order savedOrder = persistNewOrder(request, true);
+        processOrder(savedOrder);
+
+        log.info("Pedido criado: {}", savedOrder.getExternalId());
+        return mapToResponseDTO(savedOrder);
+    }
+
+    @Transactional
+    public OrderResponseDTO acceptOrder(OrderRequestDTO request) {
+        Order savedOrder = persistNewOrder(request, false);
+        Long orderId = savedOrder.getId();
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                orderProcessor.process(orderId);
+            } catch (RejectedExecutionException e) {
+                log.warn("Fila de processamento cheia, pedido {} será retomado pela recuperação",
+                        savedOrder.getExternalId());
+            }
+        });
+
+        log.info("Pedido aceito: {}", savedOrder.getExternalId());
+        return mapToResponseDTO(savedOrder);
+    }
 
-        if (orderRepository.existsByExternalId(request.getExternalId())) {
+    private Order persistNewOrder(OrderRequestDTO request, boolean reserveStock) {
+        try {
+            return insertOrder(request, reserveStock);
+        } catch (DuplicateOrderException | InsufficientStockException | ProductNotFoundException e) {
+            orderRejections.record(OrderRejectionSourceEnum.API, e);
+            throw e;
+        }
+    }
+
+    private Order insertOrder(OrderRequestDTO request, boolean reserveStock) {
+        if (orderDeduplicationService.isDuplicate(request.getExternalId())) {
             throw new DuplicateOrderException(
                     "Pedido com externalId " + request.getExternalId() + " já existe"
             );
         }
 
-        BigDecimal totalAmount = calculateTotalAmount(request.getItems());
         Order order = Order.builder()
                 .externalId(request.getExternalId())
                 .customerId(request.getCustomerId())
                 .status(OrderStatusEnum.PROCESSING)
-                .totalAmount(totalAmount)
+                .stockReserved(reserveStock)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-
-        List<OrderItem> items = request.getItems().stream()
-                .map(itemDto -> {
-                    Product product = selfOrderService.findProductById(itemDto.getProductId());
-
-                    if (product.getQuantity() < itemDto.getQuantity()) {
-                        throw new InsufficientStockException(
-                                String.format("Estoque insuficiente para o produto %s. Disponível: %d, Solicitado: %d",
-                                        product.getProductName(),
-                                        product.getQuantity(),
-                                        itemDto.getQuantity()));
-                    }
-                    product.setQuantity(product.getQuantity() - itemDto.getQuantity());
-                    productRepository.save(product);
-
-                    BigDecimal unitPrice = product.getUnitPrice();
-                    return OrderItem.builder()
-                            .order(order)
-                            .productId(itemDto.getProductId())
-                            .productName(product.getProductName())
-                            .quantity(itemDto.getQuantity())
-                            .unitPrice(unitPrice)
-                            .totalPrice(unitPrice.multiply(BigDecimal.valueOf(itemDto.getQuantity())))
-                            .build();
-                })
-                .toList();
+        List<OrderItem> items = OrderPricing.items(order, request.getItems(), productCatalog::get);
+        if (reserveStock) {
+            stockReservationService.reserve(requestedQuantities(request));
+        }
 
         order.setItems(items);
-        processOrder(order);
+        order.setTotalAmount(OrderPricing.total(items));
+        Order savedOrder;
+        try {
+            savedOrder = orderRepository.saveAndFlush(order);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateOrderException(
+                    "Pedido com externalId " + request.getExternalId() + " já existe", e);
+        }
+        orderDeduplicationService.record(savedOrder.getExternalId());
+        orderDailyCounters.created(savedOrder.getCreatedAt(), savedOrder.getStatus());
+        orderRollupService.created(savedOrder.getCreatedAt(), savedOrder.getTotalAmount(), savedOrder.getStatus());
+        return savedOrder;
+    }
 
-        Order savedOrder = orderRepository.save(order);
-        log.info("Pedido criado: {}", savedOrder.getExternalId());
-        return mapToResponseDTO(savedOrder);
+    @Transactional
+    public List<OrderBatchResultDTO> createOrders(List<OrderRequestDTO> requests) {
+        return createOrders(requests, OrderRejectionSourceEnum.BATCH);
     }
 
-    @Async
+    /**
+     * Cria o lote e conta as recusas em {@code order.rejections} com a origem informada (lote da API ou importação).
+     */
     @Transactional
-    public CompletableFuture<Void> processOrder(Order order) {
+    public List<OrderBatchResultDTO> createOrders(List<OrderRequestDTO> requests, OrderRejectionSourceEnum source) {
+        // Uma consulta para o lote inteiro: um duplicado que passasse pelo Bloom filter (mais antigo que o TTL ou
+        // criado por outra instância) violaria a constraint única no flush e desfaria o lote todo
+        Set<String> seenExternalIds = requests.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(orderRepository.findExistingExternalIds(requests.stream()
+                        .map(OrderRequestDTO::getExternalId)
+                        .toList()));
+
+        Map<String, ProductSnapshot> products = productCatalog.getAll(requests.stream()
+                .flatMap(request -> request.getItems().stream())
+                .map(OrderItemDTO::getProductId)
+                .collect(Collectors.toSet()));
+
+        List<OrderBatchResultDTO> results = new ArrayList<>(requests.size());
+        Map<Order, OrderBatchResultDTO> chunk = new LinkedHashMap<>();
+
+        for (OrderRequestDTO request : requests) {
+            OrderBatchResultDTO result = OrderBatchResultDTO.builder()
+                    .externalId(request.getExternalId())
+                    .build();
+            results.add(result);
+
+            if (!seenExternalIds.add(request.getExternalId())) {
+                result.setResult(OrderResultStatusEnum.DUPLICATE);
+                result.setMessage("Pedido com externalId " + request.getExternalId() + " já existe");
+                continue;
+            }
+
+            Order order = buildBatchOrder(request, products, result);
+            if (order == null) {
+                continue;
+            }
+
+            result.setResult(OrderResultStatusEnum.CREATED);
+            chunk.put(order, result);
+            if (chunk.size() >= batchSize) {
+                persistChunk(chunk);
+            }
+        }
+
+        persistChunk(chunk);
+        orderRejections.record(source, results);
+        log.info("Lote de {} pedidos processado", requests.size());
+        return results;
+    }
+
+    private Order buildBatchOrder(OrderRequestDTO request, Map<String, ProductSnapshot> products,
+                                  OrderBatchResultDTO result) {
+        for (OrderItemDTO itemDto : request.getItems()) {
+            if (!products.containsKey(itemDto.getProductId())) {
+                result.setResult(OrderResultStatusEnum.PRODUCT_NOT_FOUND);
+                result.setMessage("Produto não encontrado com productId: " + itemDto.getProductId());
+                return null;
+            }
+        }
+
+        try {
+            stockReservationService.reserve(requestedQuantities(request));
+        } catch (InsufficientStockException e) {
+            result.setResult(OrderResultStatusEnum.INSUFFICIENT_STOCK);
+            result.setMessage(e.getMessage());
+            return null;
+        }
+
+        Order order = Order.builder()
+                .externalId(request.getExternalId())
+                .customerId(request.getCustomerId())
+                .status(OrderStatusEnum.CREATED)
+                .stockReserved(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        List<OrderItem> items = OrderPricing.items(order, request.getItems(), products::get);
+
+        order.setItems(items);
+        order.setTotalAmount(OrderPricing.total(items));
+        return order;
+    }
+
+    private void persistChunk(Map<Order, OrderBatchResultDTO> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        orderRepository.saveAll(chunk.keySet());
+        orderRepository.flush();
+
+        chunk.forEach((order, result) -> {
+            result.setOrderId(order.getId());
+            orderDeduplicationService.record(order.getExternalId());
+            orderDailyCounters.created(order.getCreatedAt(), order.getStatus());
+            orderRollupService.created(order.getCreatedAt(), order.getTotalAmount(), order.getStatus());
+            outboxService.enqueueProductB(order);
+            entityManager.detach(order);
+        });
+        chunk.clear();
+    }
+
+    /**
+     * Etapa síncrona do {@link #createOrder}, na mesma transação que gravou o pedido. O processamento em segundo
+     * plano do aceite assíncrono fica no {@link OrderProcessor}.
+     */
+    void processOrder(Order order) {
+        OrderStatusEnum previousStatus = order.getStatus();
         try {
 
             order.setStatus(OrderStatusEnum.CREATED);
             orderRepository.save(order);
-            externalIntegrationService.notifyProductB(order);
+            outboxService.enqueueProductB(order);
             log.info("Pedido {} processado com sucesso", order.getExternalId());
 
         } catch (Exception e) {
             order.setStatus(OrderStatusEnum.FAILED);
             orderRepository.save(order);
+            orderRejections.record(OrderRejectionSourceEnum.API, OrderResultStatusEnum.FAILED);
             log.error("Erro processando pedido {}: {}", order.getExternalId(), e.getMessage());
         }
-
-        return CompletableFuture.completedFuture(null);
+        orderDailyCounters.statusChanged(order.getCreatedAt(), previousStatus, order.getStatus());
+        orderRollupService.statusChanged(order.getCreatedAt(), order.getTotalAmount(), previousStatus,
+                order.getStatus());
     }
 
-    @Cacheable(value = "orders", key = "#id")
+    @Cacheable(value = "orders", key = "#id", sync = true)
     @Transactional(readOnly = true)
     public OrderResponseDTO getOrderById(Long id) {
         Order order = orderRepository.findById(id)
@@ -128,7 +280,7 @@ public class OrderService {
         return mapToResponseDTO(order);
     }
 
-    @Cacheable(value = "ordersByExternalId", key = "#externalId")
+    @Cacheable(value = "ordersByExternalId", key = "#externalId", sync = true)
     @Transactional(readOnly = true)
     public OrderResponseDTO getOrderByExternalId(String externalId) {
         Order order = orderRepository.findByExternalId(externalId)
@@ -140,43 +292,110 @@ public class OrderService {
 
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getAllOrders(Pageable pageable) {
-        return orderRepository.findAll(pageable)
+        Page<Long> ids = orderRepository.findPageOfIds(pageable);
+        return new PageImpl<>(findWithItems(ids.getContent()), pageable, ids.getTotalElements())
                 .map(this::mapToResponseDTO);
     }
 
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getOrdersByStatus(OrderStatusEnum status, Pageable pageable) {
-        return orderRepository.findByStatus(status, pageable)
+        Page<Long> ids = orderRepository.findPageOfIdsByStatus(status, pageable);
+        return new PageImpl<>(findWithItems(ids.getContent()), pageable, ids.getTotalElements())
                 .map(this::mapToResponseDTO);
     }
 
-    @CacheEvict(value = {"orders", "ordersByExternalId"}, allEntries = true)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> scrollOrders(String cursor, int size) {
+        PageCursor after = decodeOrderCursor(cursor);
+        int pageSize = PageCursor.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Long> ids = after == null
+                ? orderRepository.findLatestIds(limit)
+                : orderRepository.findLatestIdsBefore(after.createdAt(), after.id(), limit);
+        return PageCursor.page(findWithItems(ids), pageSize, this::cursorOf, this::mapToResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> scrollOrdersByStatus(OrderStatusEnum status, String cursor, int size) {
+        PageCursor after = decodeOrderCursor(cursor);
+        int pageSize = PageCursor.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Long> ids = after == null
+                ? orderRepository.findLatestIdsByStatus(status, limit)
+                : orderRepository.findLatestIdsByStatusBefore(status, after.createdAt(), after.id(), limit);
+        return PageCursor.page(findWithItems(ids), pageSize, this::cursorOf, this::mapToResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> getCustomerOrders(String customerId, String cursor, int size) {
+        PageCursor after = decodeOrderCursor(cursor);
+        int pageSize = PageCursor.pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Long> ids = after == null
+                ? orderRepository.findLatestIdsByCustomerId(customerId, limit)
+                : orderRepository.findLatestIdsByCustomerIdBefore(customerId, after.createdAt(), after.id(), limit);
+        return PageCursor.page(findWithItems(ids), pageSize, this::cursorOf, this::mapToResponseDTO);
+    }
+
     @Transactional
     public void updateOrderStatus(Long id, OrderStatusEnum status) {
-        orderRepository.updateOrderStatus(id, status);
+        LocalDateTime updatedAt = LocalDateTime.now();
+        // A linha fica travada até o commit, então o status lido é o que a atualização condicional encontra
+        Order order = orderRepository.findForUpdateById(id)
+                .orElseThrow(() -> new OrderNotFoundException("Pedido não encontrado com id: " + id));
+        OrderStatusEnum previous = order.getStatus();
+        if (orderRepository.updateOrderStatusFrom(id, previous, status, updatedAt) == 0) {
+            throw new IllegalStateException("Status do pedido " + id + " mudou durante a atualização");
+        }
+        orderDailyCounters.statusChanged(order.getCreatedAt(), previous, status);
+        orderRollupService.statusChanged(order.getCreatedAt(), order.getTotalAmount(), previous, status);
+        orderCacheService.evict(id, order.getExternalId());
         log.info("Pedido {} status atualizado para {}", id, status);
     }
 
     public Long getTodayOrdersCount() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        return orderRepository.countOrdersSince(startOfDay);
+        return orderDailyCounters.total();
     }
 
-    private BigDecimal calculateTotalAmount(List<OrderItemDTO> items) {
-        return items.stream()
-                .map(item -> {
-                    BigDecimal unitPrice = selfOrderService.findProductById(item.getProductId()).getUnitPrice();
-                    item.setUnitPrice(unitPrice);
-                    return unitPrice.multiply(BigDecimal.valueOf(item.getQuantity()));
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public Map<OrderStatusEnum, Long> getTodayOrdersCountByStatus() {
+        return orderDailyCounters.byStatus();
+    }
+
+    private Map<String, Integer> requestedQuantities(OrderRequestDTO request) {
+        return request.getItems().stream()
+                .collect(Collectors.toMap(OrderItemDTO::getProductId, OrderItemDTO::getQuantity, Integer::sum));
+    }
+
+    /**
+     * Carrega os pedidos de uma página com os itens em uma única consulta, na ordem dos ids. Paginar a consulta com
+     * JOIN FETCH faria o Hibernate paginar em memória; mapear os pedidos sem os itens dispararia uma consulta de
+     * itens por pedido.
+     */
+    private List<Order> findWithItems(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> orders = orderRepository.findWithItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private PageCursor decodeOrderCursor(String cursor) {
+        PageCursor after = PageCursor.decode(cursor);
+        if (after != null && after.createdAt() == null) {
+            throw new InvalidCursorException("Cursor inválido: " + cursor);
+        }
+        return after;
     }
 
-    @Cacheable(value = "products", key = "#productId")
-    public Product findProductById(String productId) {
-        return productRepository.findByProductId(productId)
-                .orElseThrow(() -> new ProductNotFoundException(
-                        "Produto não encontrado com productId: " + productId));
+    private PageCursor cursorOf(Order order) {
+        return new PageCursor(order.getCreatedAt(), order.getId());
     }
 
     private OrderResponseDTO mapToResponseDTO(Order order) {
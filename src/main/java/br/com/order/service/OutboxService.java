@@ -0,0 +1,214 @@
+package br.com.order.service;
+
+import br.com.order.enums.OutboxStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OutboxEvent;
+import br.com.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ExternalIntegrationService externalIntegrationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.initial-backoff}")
+    private Duration initialBackoff;
+
+    @Value("${app.outbox.max-backoff}")
+    private Duration maxBackoff;
+
+    @Value("${app.outbox.retention}")
+    private Duration retention;
+
+    @Value("${app.external.product-b.batch.enabled}")
+    private boolean bulkEnabled;
+
+    @Value("${app.external.product-b.batch.max-size}")
+    private int bulkMaxSize;
+
+    @Value("${app.external.product-b.batch.linger-ms}")
+    private long bulkLingerMs;
+
+    @Value("${app.external.product-b.batch.max-in-flight}")
+    private int bulkMaxInFlight;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueProductB(Order order) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        outboxEventRepository.save(OutboxEvent.builder()
+                .orderId(order.getId())
+                .externalId(order.getExternalId())
+                .payload(externalIntegrationService.createProductBPayload(order))
+                .status(OutboxStatusEnum.PENDING)
+                .attempts(0)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms}")
+    public void dispatch() {
+        int limit = bulkEnabled ? bulkMaxSize * bulkMaxInFlight : batchSize;
+        List<OutboxEvent> batch;
+        boolean delivered;
+        do {
+            batch = transactionTemplate.execute(status ->
+                    outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                            OutboxStatusEnum.PENDING, LocalDateTime.now(clock), Limit.of(limit)));
+            if (batch.isEmpty() || lingering(batch)) {
+                return;
+            }
+            delivered = bulkEnabled ? deliverInBulk(batch) : deliver(batch);
+        } while (delivered && batch.size() == limit);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now(clock).minus(retention);
+        Integer removed = transactionTemplate.execute(status -> outboxEventRepository.deleteSentBefore(before));
+        if (removed != null && removed > 0) {
+            log.info("{} eventos enviados removidos da outbox", removed);
+        }
+    }
+
+    private boolean lingering(List<OutboxEvent> events) {
+        if (!bulkEnabled || events.size() >= bulkMaxSize) {
+            return false;
+        }
+        LocalDateTime oldest = events.stream()
+                .map(OutboxEvent::getNextAttemptAt)
+                .min(LocalDateTime::compareTo)
+                .orElseThrow();
+        return oldest.plus(Duration.ofMillis(bulkLingerMs)).isAfter(LocalDateTime.now(clock));
+    }
+
+    private boolean deliver(List<OutboxEvent> events) {
+        List<Long> sent = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            try {
+                externalIntegrationService.sendToProductB(event.getPayload());
+                sent.add(event.getId());
+            } catch (Exception e) {
+                scheduleRetry(event, e);
+                failed.add(event);
+            }
+        }
+
+        return complete(sent, failed);
+    }
+
+    private boolean deliverInBulk(List<OutboxEvent> events) {
+        List<List<OutboxEvent>> batches = new ArrayList<>();
+        for (int from = 0; from < events.size(); from += bulkMaxSize) {
+            batches.add(events.subList(from, Math.min(from + bulkMaxSize, events.size())));
+        }
+
+        List<CompletableFuture<Exception>> requests = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> send(batch), taskExecutor))
+                .toList();
+
+        List<Long> sent = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            List<OutboxEvent> batch = batches.get(i);
+            meterRegistry.summary("productb.batch.fill.ratio").record((double) batch.size() / bulkMaxSize);
+
+            Exception error = requests.get(i).join();
+            if (error == null) {
+                batch.forEach(event -> sent.add(event.getId()));
+            } else {
+                batch.forEach(event -> scheduleRetry(event, error));
+                failed.addAll(batch);
+            }
+        }
+
+        return complete(sent, failed);
+    }
+
+    private Exception send(List<OutboxEvent> batch) {
+        try {
+            externalIntegrationService.sendBatchToProductB(batch.stream().map(OutboxEvent::getPayload).toList());
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private boolean complete(List<Long> sent, List<OutboxEvent> failed) {
+        LocalDateTime sentAt = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxEventRepository.markSent(sent, sentAt);
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.saveAll(failed);
+            }
+        });
+
+        log.info("Outbox: {} eventos enviados ao Product B, {} com falha", sent.size(), failed.size());
+        return !sent.isEmpty();
+    }
+
+    private void scheduleRetry(OutboxEvent event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(e.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxStatusEnum.FAILED);
+            log.error("Pedido {} não foi entregue ao Product B após {} tentativas: {}",
+                    event.getExternalId(), attempts, e.getMessage());
+            return;
+        }
+
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        if (delay.compareTo(maxBackoff) > 0) {
+            delay = maxBackoff;
+        }
+        event.setNextAttemptAt(LocalDateTime.now(clock).plus(delay));
+        log.warn("Falha ao notificar Product B para o pedido {} (tentativa {}), nova tentativa em {}",
+                event.getExternalId(), attempts, delay);
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
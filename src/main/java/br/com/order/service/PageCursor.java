@@ -0,0 +1,69 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.CursorPageDTO;
+import br.com.order.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Posição de uma listagem por keyset: a chave de ordenação da última linha entregue. O cliente recebe a posição
+ * como um token opaco (Base64 URL-safe) e a próxima página busca as linhas depois dela no índice, sem OFFSET nem
+ * COUNT.
+ */
+record PageCursor(LocalDateTime createdAt, long id) {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final char SEPARATOR = '|';
+
+    static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    /**
+     * @return a posição do token, ou {@code null} para a primeira página
+     */
+    static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.parseLong(value));
+            }
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor inválido: " + token, e);
+        }
+    }
+
+    String encode() {
+        String value = createdAt == null ? Long.toString(id) : createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int pageSize(int requested) {
+        return Math.clamp(requested, 1, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Monta a página a partir de {@code size + 1} linhas: a linha extra só indica que existe uma próxima página.
+     */
+    static <E, D> CursorPageDTO<D> page(List<E> rows, int size, Function<E, PageCursor> cursorOf,
+                                        Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageDTO.<D>builder()
+                .content(content.stream().map(mapper).toList())
+                .nextCursor(hasNext ? cursorOf.apply(content.getLast()).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.order.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Um estágio do pipeline de pedidos: fila limitada e workers próprios. {@link #submit} bloqueia enquanto a fila
+ * estiver cheia, então um estágio saturado segura os workers do estágio anterior em vez de acumular memória.
+ */
+@Slf4j
+final class PipelineStage<T> {
+
+    private final String name;
+    private final UnaryOperator<T> handler;
+    private final BlockingQueue<Task> queue;
+    private final List<Thread> workers;
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+    private volatile boolean stopped;
+
+    PipelineStage(String name, int workerCount, int queueCapacity, UnaryOperator<T> handler,
+                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.handler = handler;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new Thread(this::work, "order-" + name + "-" + i));
+        }
+
+        Gauge.builder("order.pipeline.queue.depth", queue, BlockingQueue::size)
+                .tag("stage", name)
+                .register(meterRegistry);
+        Gauge.builder("order.pipeline.queue.capacity", () -> queueCapacity)
+                .tag("stage", name)
+                .register(meterRegistry);
+        waitTimer = Timer.builder("order.pipeline.queue.wait")
+                .tag("stage", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        durationTimer = Timer.builder("order.pipeline.stage.duration")
+                .tag("stage", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    void start() {
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Interrompe os workers e falha as tarefas que ficaram na fila, para que quem espera por elas não fique preso.
+     */
+    void stop() {
+        stopped = true;
+        workers.forEach(Thread::interrupt);
+        List<Task> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(Task::reject);
+        if (!pending.isEmpty()) {
+            log.warn("Estágio {} encerrado com {} tarefas pendentes", name, pending.size());
+        }
+    }
+
+    CompletableFuture<T> submit(T input) {
+        Task task = new Task(input);
+        if (stopped) {
+            task.reject();
+            return task.result;
+        }
+
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.result.completeExceptionally(e);
+            return task.result;
+        }
+        if (stopped && queue.remove(task)) {
+            task.reject();
+        }
+        return task.result;
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                queue.take().run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.debug("Worker do estágio {} encerrado", name);
+    }
+
+    private final class Task implements Runnable {
+
+        private final T input;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+
+        private Task(T input) {
+            this.input = input;
+        }
+
+        /**
+         * A duração é registrada antes de completar o futuro: os estágios seguintes rodam nesta thread dentro de
+         * {@code complete} e, com a fila deles cheia, o tempo bloqueado entraria na duração deste estágio.
+         */
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            T output;
+            try {
+                output = handler.apply(input);
+            } catch (Throwable e) {
+                durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                result.completeExceptionally(e);
+                return;
+            }
+            durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            result.complete(output);
+        }
+
+        private void reject() {
+            result.completeExceptionally(new RejectedExecutionException("Estágio " + name + " encerrado"));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.order.service;
+
+import br.com.order.exception.ProductNotFoundException;
+import br.com.order.model.Product;
+import br.com.order.model.ProductSnapshot;
+import br.com.order.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+
+    private volatile Map<String, ProductSnapshot> snapshots = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        merge(snapshotsOf(productRepository.findAll()));
+        log.info("Catálogo de produtos carregado com {} produtos", snapshots.size());
+    }
+
+    public ProductSnapshot get(String productId) {
+        ProductSnapshot snapshot = snapshots.get(productId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return productRepository.findByProductId(productId)
+                .map(product -> merge(List.of(ProductSnapshot.from(product))).get(productId))
+                .orElseThrow(() -> new ProductNotFoundException(
+                        "Produto não encontrado com productId: " + productId));
+    }
+
+    public Map<String, ProductSnapshot> getAll(Collection<String> productIds) {
+        Map<String, ProductSnapshot> current = snapshots;
+        List<String> missing = productIds.stream()
+                .filter(productId -> !current.containsKey(productId))
+                .toList();
+        Map<String, ProductSnapshot> source = missing.isEmpty()
+                ? current
+                : merge(snapshotsOf(productRepository.findByProductIdIn(missing)));
+
+        Map<String, ProductSnapshot> result = new HashMap<>();
+        for (String productId : productIds) {
+            ProductSnapshot snapshot = source.get(productId);
+            if (snapshot != null) {
+                result.put(productId, snapshot);
+            }
+        }
+        return result;
+    }
+
+    public void refresh(Product product) {
+        ProductSnapshot snapshot = ProductSnapshot.from(product);
+        TransactionCallbacks.afterCommit(() -> merge(List.of(snapshot)));
+    }
+
+    private List<ProductSnapshot> snapshotsOf(List<Product> products) {
+        return products.stream().map(ProductSnapshot::from).toList();
+    }
+
+    private synchronized Map<String, ProductSnapshot> merge(Collection<ProductSnapshot> candidates) {
+        Map<String, ProductSnapshot> next = new HashMap<>(snapshots);
+        for (ProductSnapshot candidate : candidates) {
+            next.merge(candidate.productId(), candidate,
+                    (current, updated) -> current.version() > updated.version() ? current : updated);
+        }
+        snapshots = Collections.unmodifiableMap(next);
+        return snapshots;
+    }
+}
@@ -1,26 +1,33 @@
 package br.com.order.service;
 
 import br.com.order.dto.request.ProductRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
 import br.com.order.dto.response.ProductResponseDTO;
 import br.com.order.exception.DuplicateOrderException;
 import br.com.order.exception.ProductNotFoundException;
 import br.com.order.mapper.ProductMapper;
 import br.com.order.model.Product;
 import br.com.order.repository.ProductRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
+@Timed("product.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCatalog productCatalog;
 
     @Transactional
     public ProductResponseDTO createProduct(ProductRequestDTO request) {
@@ -39,6 +46,7 @@ public class ProductService {
                 .build();
 
         Product savedProduct = productRepository.save(product);
+        productCatalog.refresh(savedProduct);
         log.info("Produto criado: {}", savedProduct.getProductId());
 
         return mapToResponseDTO(savedProduct);
@@ -59,6 +67,17 @@ public class ProductService {
         return products.map(this::mapToResponseDTO);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductResponseDTO> scrollProducts(String cursor, int size) {
+        PageCursor after = PageCursor.decode(cursor);
+        int pageSize = PageCursor.pageSize(size);
+
+        List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after.id(), Limit.of(pageSize + 1));
+        return PageCursor.page(products, pageSize, product -> PageCursor.of(product.getId()),
+                this::mapToResponseDTO);
+    }
+
     private ProductResponseDTO mapToResponseDTO(Product product) {
         return productMapper.toDto(product);
     }
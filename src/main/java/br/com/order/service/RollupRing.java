@@ -0,0 +1,132 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderStatusEnum;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Janela circular de faixas de tempo de largura fixa. A faixa de um instante é o número de larguras desde a época,
+ * contando a hora local como se fosse UTC, e ocupa a posição {@code faixa % tamanho}; uma faixa nova substitui a
+ * que estava na posição, que já saiu da janela.
+ */
+final class RollupRing {
+
+    private static final OrderStatusEnum[] STATUSES = OrderStatusEnum.values();
+
+    private final long widthSeconds;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    RollupRing(Duration width, Duration retention) {
+        this.widthSeconds = width.toSeconds();
+        this.buckets = new AtomicReferenceArray<>((int) retention.dividedBy(width));
+    }
+
+    long slotOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), widthSeconds);
+    }
+
+    LocalDateTime startOf(long slot) {
+        return LocalDateTime.ofEpochSecond(slot * widthSeconds, 0, ZoneOffset.UTC);
+    }
+
+    int size() {
+        return buckets.length();
+    }
+
+    /**
+     * Faixa {@code slot}, criada se ainda não existir. Devolve {@code null} quando a faixa já saiu da janela que
+     * termina em {@code currentSlot} ou está depois dela.
+     */
+    Bucket bucket(long slot, long currentSlot) {
+        if (slot <= currentSlot - size() || slot > currentSlot) {
+            return null;
+        }
+        int index = (int) Math.floorMod(slot, (long) size());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.slot == slot) {
+                return bucket;
+            }
+            if (bucket != null && bucket.slot > slot) {
+                return null;
+            }
+            Bucket fresh = new Bucket(slot);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    Bucket peek(long slot) {
+        Bucket bucket = buckets.get((int) Math.floorMod(slot, (long) size()));
+        return bucket != null && bucket.slot == slot ? bucket : null;
+    }
+
+    void forEach(Consumer<Bucket> action) {
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                action.accept(bucket);
+            }
+        }
+    }
+
+    /**
+     * Pedidos e receita, em centavos, por status dos pedidos criados dentro da faixa.
+     */
+    static final class Bucket {
+
+        private final long slot;
+        private final LongAdder[] orders = newAdders();
+        private final LongAdder[] revenueCents = newAdders();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+
+        long slot() {
+            return slot;
+        }
+
+        void add(OrderStatusEnum status, long orderCount, long cents) {
+            orders[status.ordinal()].add(orderCount);
+            revenueCents[status.ordinal()].add(cents);
+            dirty.set(true);
+        }
+
+        long orders(OrderStatusEnum status) {
+            return orders[status.ordinal()].sum();
+        }
+
+        long revenueCents(OrderStatusEnum status) {
+            return revenueCents[status.ordinal()].sum();
+        }
+
+        /**
+         * Limpa a marca de alteração e diz se ela estava ligada. Quem gravar a faixa e falhar deve chamar
+         * {@link #markDirty()}.
+         */
+        boolean clean() {
+            return dirty.getAndSet(false);
+        }
+
+        void markDirty() {
+            dirty.set(true);
+        }
+
+        private static LongAdder[] newAdders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.order.service;
+
+import br.com.order.enums.StockModeEnum;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private final InventoryLedgerService inventoryLedgerService;
+    private final ProductRepository productRepository;
+
+    @Value("${app.stock.mode}")
+    private StockModeEnum stockMode;
+
+    public void reserve(Map<String, Integer> quantities) {
+        if (stockMode == StockModeEnum.DATABASE) {
+            decrementInDatabase(quantities);
+        } else {
+            inventoryLedgerService.reserve(quantities);
+        }
+    }
+
+    public void release(Map<String, Integer> quantities) {
+        if (stockMode == StockModeEnum.DATABASE) {
+            productRepository.incrementStock(new TreeMap<>(quantities));
+        } else {
+            inventoryLedgerService.release(quantities);
+        }
+    }
+
+    private void decrementInDatabase(Map<String, Integer> quantities) {
+        SortedMap<String, Integer> sorted = new TreeMap<>(quantities);
+        int[] updated = productRepository.decrementStock(sorted);
+
+        SortedMap<String, Integer> decremented = new TreeMap<>();
+        List<String> rejected = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : sorted.entrySet()) {
+            if (updated[index++] > 0) {
+                decremented.put(entry.getKey(), entry.getValue());
+            } else {
+                rejected.add(entry.getKey());
+            }
+        }
+
+        if (rejected.isEmpty()) {
+            return;
+        }
+        if (!decremented.isEmpty()) {
+            productRepository.incrementStock(decremented);
+        }
+
+        String productId = rejected.getFirst();
+        throw new InsufficientStockException(
+                String.format("Estoque insuficiente para o produto %s. Solicitado: %d",
+                        productId, sorted.get(productId)));
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.order.config;
+
+import br.com.order.dto.response.OrderResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheConfig Unit Tests")
+class CacheConfigTest {
+
+    private javax.cache.CacheManager jCacheManager;
+    private CacheManager cacheManager;
+    private CacheConfig cacheConfig;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "ordersHeapEntries", 2L);
+        ReflectionTestUtils.setField(cacheConfig, "ordersTimeToLive", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cacheConfig, "ordersByExternalIdHeapEntries", 10L);
+        ReflectionTestUtils.setField(cacheConfig, "ordersByExternalIdTimeToLive", Duration.ofMillis(100));
+
+        jCacheManager = cacheConfig.jCacheManager();
+        cacheManager = cacheConfig.cacheManager(jCacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jCacheManager.close();
+    }
+
+    @Test
+    @DisplayName("Should bound each cache by its heap-entries limit")
+    void shouldEvictBeyondHeapEntries() {
+        // Given
+        Cache orders = cacheManager.getCache("orders");
+
+        // When
+        LongStream.rangeClosed(1, 10).forEach(id -> orders.put(id, order(id)));
+
+        // Then
+        long cached = LongStream.rangeClosed(1, 10).filter(id -> orders.get(id) != null).count();
+        assertThat(cached).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the configured time-to-live")
+    void shouldExpireAfterTimeToLive() throws Exception {
+        // Given
+        Cache ordersByExternalId = cacheManager.getCache("ordersByExternalId");
+        ordersByExternalId.put("ORD-001", order(1L));
+        assertThat(ordersByExternalId.get("ORD-001")).isNotNull();
+
+        // When
+        Thread.sleep(200);
+
+        // Then
+        assertThat(ordersByExternalId.get("ORD-001")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expose hit, miss and eviction statistics as JCache MXBeans")
+    void shouldExposeStatistics() throws Exception {
+        // Given
+        Cache orders = cacheManager.getCache("orders");
+        orders.put(1L, order(1L));
+        orders.get(1L);
+        orders.get(2L);
+
+        // When
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = server.queryNames(new ObjectName("javax.cache:type=CacheStatistics,Cache=orders,*"), null)
+                .stream()
+                .filter(objectName -> objectName.getKeyProperty("CacheManager")
+                        .contains(jCacheManager.getURI().toString().replace(':', '.')))
+                .findFirst()
+                .orElseThrow();
+
+        // Then
+        assertThat(server.getAttribute(name, "CacheHits")).isEqualTo(1L);
+        assertThat(server.getAttribute(name, "CacheMisses")).isEqualTo(1L);
+        assertThat(server.getAttribute(name, "CacheEvictions")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counts per cache")
+    void shouldBindCacheMetrics() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheConfig.cacheMetrics(jCacheManager).bindTo(meterRegistry);
+        Cache orders = cacheManager.getCache("orders");
+        orders.put(1L, order(1L));
+
+        // When
+        orders.get(1L);
+        orders.get(1L);
+        orders.get(2L);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "orders").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "ordersByExternalId").meters()).isNotEmpty();
+    }
+
+    private OrderResponseDTO order(Long id) {
+        return OrderResponseDTO.builder()
+                .id(id)
+                .externalId("ORD-" + id)
+                .build();
+    }
+}
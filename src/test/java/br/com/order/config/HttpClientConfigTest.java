@@ -0,0 +1,147 @@
+package br.com.order.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HttpClientConfig Unit Tests")
+class HttpClientConfigTest {
+
+    private HttpServer productB;
+    private Set<Integer> remotePorts;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remotePorts = ConcurrentHashMap.newKeySet();
+        productB = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        productB.setExecutor(Executors.newCachedThreadPool());
+        productB.createContext("/api/orders", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            remotePorts.add(exchange.getRemoteAddress().getPort());
+            byte[] response = "ok".getBytes();
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        productB.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        productB.createContext("/trickle", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try {
+                for (int i = 0; i < 20; i++) {
+                    exchange.getResponseBody().write('x');
+                    exchange.getResponseBody().flush();
+                    Thread.sleep(100);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // o cliente desistiu no meio do corpo
+            }
+            exchange.close();
+        });
+        productB.start();
+        baseUrl = "http://127.0.0.1:" + productB.getAddress().getPort();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ReflectionTestUtils.setField(config, "version", HttpClient.Version.HTTP_2);
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "requestTimeout", Duration.ofMillis(300));
+
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        httpClient = config.httpClient();
+        restTemplate = config.restTemplate(httpClient, observationRegistry, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        productB.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should reuse a persistent connection across sequential requests")
+    void shouldReuseConnections() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            restTemplate.postForObject(baseUrl + "/api/orders", "{}", String.class);
+        }
+
+        // Then
+        assertThat(remotePorts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should fail fast when Product B does not answer within the request timeout")
+    void shouldTimeOutHungRequests() {
+        // When
+        long start = System.nanoTime();
+        Throwable error = catchThrowable(() -> restTemplate.postForObject(baseUrl + "/slow", "{}", String.class));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(error).isInstanceOf(ResourceAccessException.class);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_500));
+    }
+
+    @Test
+    @DisplayName("Should give up on a response whose body keeps arriving after the request timeout")
+    void shouldBoundTheWholeExchange() {
+        // When
+        long start = System.nanoTime();
+        Throwable error = catchThrowable(() -> restTemplate.postForObject(baseUrl + "/trickle", "{}", String.class));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(error).isInstanceOf(RestClientException.class).hasRootCauseInstanceOf(IOException.class);
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_500));
+    }
+
+    @Test
+    @DisplayName("Should record latency per endpoint and track in-flight requests per host")
+    void shouldRecordMetrics() {
+        // When
+        restTemplate.postForObject(baseUrl + "/api/orders", "{}", String.class);
+
+        // Then
+        Timer timer = meterRegistry.get("http.client.requests").tag("uri", "/api/orders").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.client.in.flight")
+                .tag("client.name", "127.0.0.1:" + productB.getAddress().getPort())
+                .gauge().value()).isZero();
+    }
+}
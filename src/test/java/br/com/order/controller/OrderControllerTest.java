@@ -2,8 +2,19 @@ package br.com.order.controller;
 
 import br.com.order.dto.OrderItemDTO;
 import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
 import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.dto.response.OrderRollupDTO;
+import br.com.order.enums.ExportFormatEnum;
+import br.com.order.enums.OrderAcceptanceModeEnum;
+import br.com.order.enums.OrderResultStatusEnum;
 import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.RollupGranularityEnum;
+import br.com.order.service.OrderExportService;
+import br.com.order.service.OrderImportService;
+import br.com.order.service.OrderPipeline;
+import br.com.order.service.OrderRollupService;
 import br.com.order.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,14 +28,21 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +53,18 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderImportService orderImportService;
+
+    @Mock
+    private OrderPipeline orderPipeline;
+
+    @Mock
+    private OrderExportService orderExportService;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -92,6 +122,81 @@ class OrderControllerTest {
         verify(orderService, times(1)).createOrder(any(OrderRequestDTO.class));
     }
 
+    @Test
+    @DisplayName("Should create order through the staged pipeline when it is enabled")
+    void shouldCreateOrderThroughPipeline() {
+        // Given
+        when(orderPipeline.isEnabled()).thenReturn(true);
+        when(orderPipeline.process(any(OrderRequestDTO.class))).thenReturn(orderResponseDTO);
+
+        // When
+        ResponseEntity<OrderResponseDTO> response = orderController.createOrder(orderRequestDTO);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(orderResponseDTO);
+        verify(orderService, never()).createOrder(any(OrderRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should accept order and return 202 ACCEPTED with its location in async mode")
+    void shouldAcceptOrderInAsyncMode() {
+        // Given
+        ReflectionTestUtils.setField(orderController, "acceptanceMode", OrderAcceptanceModeEnum.ASYNC);
+        OrderResponseDTO accepted = orderResponseDTO.toBuilder().status(OrderStatusEnum.PROCESSING).build();
+        when(orderService.acceptOrder(any(OrderRequestDTO.class))).thenReturn(accepted);
+
+        // When
+        ResponseEntity<OrderResponseDTO> response = orderController.createOrder(orderRequestDTO);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getLocation()).isEqualTo(URI.create("/api/orders/1"));
+        assertThat(response.getBody().getStatus()).isEqualTo(OrderStatusEnum.PROCESSING);
+        verify(orderService, never()).createOrder(any(OrderRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should create orders in batch and return 200 OK with per-order results")
+    void shouldCreateOrdersInBatch() {
+        // Given
+        List<OrderBatchResultDTO> results = List.of(
+                OrderBatchResultDTO.builder().externalId("ORD-001").orderId(1L)
+                        .result(OrderResultStatusEnum.CREATED).build(),
+                OrderBatchResultDTO.builder().externalId("ORD-002")
+                        .result(OrderResultStatusEnum.DUPLICATE).build());
+        when(orderService.createOrders(anyList())).thenReturn(results);
+
+        // When
+        ResponseEntity<List<OrderBatchResultDTO>> response = orderController.createOrders(
+                List.of(orderRequestDTO, orderRequestDTO));
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.CREATED, OrderResultStatusEnum.DUPLICATE);
+
+        verify(orderService, times(1)).createOrders(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON import through OrderImportService")
+    void shouldImportOrdersAsNdjson() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("{}".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        orderController.importOrders(request, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        verify(orderImportService, times(1)).importOrders(any(), any());
+    }
+
     @Test
     @DisplayName("Should get order by ID successfully and return 200 OK")
     void shouldGetOrderByIdSuccessfully() {
@@ -131,6 +236,45 @@ class OrderControllerTest {
         verify(orderService, times(1)).getOrderByExternalId(externalId);
     }
 
+    @Test
+    @DisplayName("Should stream the export as a CSV attachment")
+    void shouldExportOrdersAsCsv() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 15, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        orderController.exportOrders(from, to, ExportFormatEnum.CSV, response);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentType()).startsWith("text/csv");
+        assertThat(response.getHeader("Content-Disposition"))
+                .isEqualTo("attachment; filename=\"orders-2024-01-15-2024-01-16.csv\"");
+        verify(orderExportService).export(eq(from), eq(to), eq(ExportFormatEnum.CSV), any());
+    }
+
+    @Test
+    @DisplayName("Should get a customer's order history page and return 200 OK")
+    void shouldGetCustomerOrders() {
+        // Given
+        CursorPageDTO<OrderResponseDTO> page = CursorPageDTO.<OrderResponseDTO>builder()
+                .content(List.of(orderResponseDTO))
+                .nextCursor("next")
+                .build();
+        when(orderService.getCustomerOrders("CUST-100", null, 20)).thenReturn(page);
+
+        // When
+        ResponseEntity<CursorPageDTO<OrderResponseDTO>> response =
+                orderController.getCustomerOrders("CUST-100", null, 20);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(page);
+        verify(orderService).getCustomerOrders("CUST-100", null, 20);
+    }
+
     @Test
     @DisplayName("Should get all orders with pagination and return 200 OK")
     void shouldGetAllOrdersWithPagination() {
@@ -193,6 +337,41 @@ class OrderControllerTest {
         verify(orderService, times(1)).getTodayOrdersCount();
     }
 
+    @Test
+    @DisplayName("Should get today orders count by status and return 200 OK")
+    void shouldGetTodayOrdersCountByStatus() {
+        // Given
+        Map<OrderStatusEnum, Long> counts = Map.of(OrderStatusEnum.CREATED, 4L, OrderStatusEnum.FAILED, 1L);
+        when(orderService.getTodayOrdersCountByStatus()).thenReturn(counts);
+
+        // When
+        ResponseEntity<Map<OrderStatusEnum, Long>> response = orderController.getTodayOrdersCountByStatus();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(counts);
+    }
+
+    @Test
+    @DisplayName("Should serve order analytics from the rollups and return 200 OK")
+    void shouldGetOrderAnalytics() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime to = from.plusHours(2);
+        List<OrderRollupDTO> rollups = List.of(
+                OrderRollupDTO.builder().bucketStart(from).orders(3L).revenue(new BigDecimal("30.00")).build(),
+                OrderRollupDTO.builder().bucketStart(from.plusHours(1)).orders(0L).revenue(BigDecimal.ZERO).build());
+        when(orderRollupService.query(RollupGranularityEnum.HOUR, from, to)).thenReturn(rollups);
+
+        // When
+        ResponseEntity<List<OrderRollupDTO>> response =
+                orderController.getOrderAnalytics(from, to, RollupGranularityEnum.HOUR);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(rollups);
+    }
+
     @Test
     @DisplayName("Should update order status and return 204 NO CONTENT")
     void shouldUpdateOrderStatus() {
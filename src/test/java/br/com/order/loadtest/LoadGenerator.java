@@ -0,0 +1,183 @@
+package br.com.order.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em taxa fixa (open model). Cada requisição tem um horário previsto de envio e a latência é
+ * medida a partir dele, não do envio real: se o servidor ou o próprio gerador atrasar, a espera entra no
+ * histograma (sem coordinated omission).
+ */
+class LoadGenerator {
+
+    static final String CREATE = "create";
+    static final String GET = "get";
+    static final String LIST = "list";
+    static final String STATUS = "status";
+
+    private static final long HIGHEST_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final int KNOWN_IDS = 10_000;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String productId;
+    private final Map<String, Integer> mix;
+    private final int totalWeight;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final AtomicLongArray knownIds = new AtomicLongArray(KNOWN_IDS);
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    LoadGenerator(HttpClient client, String baseUrl, String productId, Map<String, Integer> mix) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.productId = productId;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        for (String endpoint : mix.keySet()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_LATENCY, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Converte {@code "create:40,get:40,list:15,status:5"} no mapa endpoint → peso.
+     */
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            String endpoint = parts[0].trim();
+            if (!endpoint.equals(CREATE) && !endpoint.equals(GET) && !endpoint.equals(LIST)
+                    && !endpoint.equals(STATUS)) {
+                throw new IllegalArgumentException("Endpoint desconhecido no mix: " + endpoint);
+            }
+            weights.put(endpoint, Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    Report run(int ratePerSecond, Duration duration) {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long total = ratePerSecond * duration.toSeconds();
+        long start = System.nanoTime();
+        long maxLag = 0;
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * interval;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            } else {
+                maxLag = Math.max(maxLag, -delay);
+            }
+            send(pick(), intendedStart);
+        }
+
+        long drainDeadline = System.nanoTime() + HIGHEST_LATENCY;
+        while (pending.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+        errors.forEach((endpoint, count) -> errorCounts.put(endpoint, count.sum()));
+        return new Report(elapsed, histograms, errorCounts, Duration.ofNanos(maxLag));
+    }
+
+    private String pick() {
+        int target = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mix vazio");
+    }
+
+    private void send(String endpoint, long intendedStart) {
+        HttpRequest request = request(endpoint);
+        pending.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            try {
+                long latency = Math.min(System.nanoTime() - intendedStart, HIGHEST_LATENCY);
+                recorders.get(endpoint).recordValue(latency);
+                if (error != null || response.statusCode() >= 400) {
+                    errors.get(endpoint).increment();
+                } else if (endpoint.equals(CREATE)) {
+                    remember(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    private HttpRequest request(String endpoint) {
+        long id = randomKnownId();
+        if (id == 0 && (endpoint.equals(GET) || endpoint.equals(STATUS))) {
+            endpoint = LIST;
+        }
+
+        return switch (endpoint) {
+            case CREATE -> {
+                long next = sequence.incrementAndGet();
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"externalId":"LOAD-%d","customerId":"CUST-%d",
+                                 "items":[{"productId":"%s","productName":"Produto de carga","quantity":1}]}
+                                """.formatted(next, next % 100, productId)))
+                        .build();
+            }
+            case GET -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + id)).GET().build();
+            case STATUS -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders/" + id + "/status/CREATED"))
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            default -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/orders?page=0&size=10&sort=createdAt,desc"))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private void remember(long id) {
+        knownIds.set((int) (created.getAndIncrement() % KNOWN_IDS), id);
+    }
+
+    private long randomKnownId() {
+        long count = Math.min(created.get(), KNOWN_IDS);
+        if (count == 0) {
+            return 0;
+        }
+        return knownIds.get(ThreadLocalRandom.current().nextInt((int) count));
+    }
+
+    record Report(Duration elapsed, Map<String, Histogram> histograms, Map<String, Long> errors, Duration maxLag) {
+    }
+}
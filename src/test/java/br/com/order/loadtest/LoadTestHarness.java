@@ -0,0 +1,139 @@
+package br.com.order.loadtest;
+
+import br.com.order.MsOrderApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Infraestrutura comum dos testes de carga: stub do Produto B, cliente HTTP e subida da aplicação em porta aleatória
+ * com H2 e um produto de estoque praticamente infinito.
+ */
+final class LoadTestHarness implements AutoCloseable {
+
+    static final String PRODUCT_ID = "LOAD-001";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final HttpServer productB;
+    private final HttpClient client;
+
+    LoadTestHarness() throws IOException {
+        productB = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        productB.createContext("/api/orders", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        productB.start();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Sobe a aplicação com um banco H2 próprio e as propriedades extras, e cadastra o produto de carga.
+     */
+    Application start(String database, String... properties) throws Exception {
+        List<String> all = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "logging.level.br.com.order=WARN",
+                "app.external.product-b.endpoint=http://127.0.0.1:" + productB.getAddress().getPort()
+                        + "/api/orders"));
+        all.addAll(List.of(properties));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MsOrderApplication.class)
+                .properties(all.toArray(String[]::new))
+                .run();
+        Application application = new Application(context,
+                "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port"));
+        try {
+            createProduct(application.baseUrl());
+        } catch (Exception | AssertionError e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    LoadGenerator generator(Application application, Map<String, Integer> mix) {
+        return new LoadGenerator(client, application.baseUrl(), PRODUCT_ID, mix);
+    }
+
+    static void print(String title, LoadGenerator.Report report) {
+        double seconds = report.elapsed().toMillis() / 1000.0;
+        System.out.printf("%n%s | atraso máximo do gerador: %d ms%n", title, report.maxLag().toMillis());
+        System.out.printf("%-8s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "erros");
+        for (Map.Entry<String, Histogram> entry : report.histograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            System.out.printf("%-8s %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    entry.getKey(),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                    histogram.getMaxValue() / NANOS_PER_MILLI,
+                    report.errors().get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Grava o histograma de cada endpoint (em ms) em {@code <directory>/<prefixo><endpoint>.hgrm}.
+     */
+    static void write(Path directory, String prefix, LoadGenerator.Report report) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : report.histograms().entrySet()) {
+            Path file = directory.resolve(prefix + entry.getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+        System.out.println("Histogramas gravados em " + directory.toAbsolutePath());
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        productB.stop(0);
+    }
+
+    private void createProduct(String baseUrl) throws Exception {
+        int status = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/products"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"productId":"%s","productName":"Produto de carga","quantity":2000000000,"unitPrice":10.00}
+                                """.formatted(PRODUCT_ID)))
+                        .build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+        assertThat(status).isLessThan(400);
+    }
+
+    record Application(ConfigurableApplicationContext context, String baseUrl) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            context.close();
+        }
+    }
+}
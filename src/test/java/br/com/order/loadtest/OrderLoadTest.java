@@ -0,0 +1,55 @@
+package br.com.order.loadtest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe a aplicação em porta aleatória (H2 + stub do Produto B) e aplica uma mistura de create/get/list/status em
+ * taxa fixa. Imprime vazão e p50/p99/p999 por endpoint e grava os histogramas em {@code target/load-test}.
+ * Só roda com {@code -Dload-test=true}.
+ */
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+@DisplayName("Order load test")
+class OrderLoadTest {
+
+    private static final int RATE = Integer.getInteger("load-test.rate", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load-test.seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load-test.warmup-seconds", 10));
+    private static final String MIX = System.getProperty("load-test.mix", "create:40,get:40,list:15,status:5");
+    private static final Path OUTPUT = Path.of("target", "load-test");
+
+    private LoadTestHarness harness;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        harness = new LoadTestHarness();
+    }
+
+    @AfterEach
+    void tearDown() {
+        harness.close();
+    }
+
+    @Test
+    @DisplayName("Should report throughput and latency percentiles per endpoint at a fixed rate")
+    void shouldDriveFixedRateMix() throws Exception {
+        try (LoadTestHarness.Application application = harness.start("order-load")) {
+            LoadGenerator generator = harness.generator(application, LoadGenerator.parseMix(MIX));
+            generator.run(RATE, WARMUP);
+            LoadGenerator.Report report = generator.run(RATE, DURATION);
+
+            LoadTestHarness.print("Taxa alvo: " + RATE + " req/s | mix: " + MIX, report);
+            LoadTestHarness.write(OUTPUT, "", report);
+
+            assertThat(report.errors().values()).allMatch(errors -> errors == 0);
+        }
+    }
+}
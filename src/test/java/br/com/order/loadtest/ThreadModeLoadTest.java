@@ -0,0 +1,64 @@
+package br.com.order.loadtest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara o modo com pool de threads e o modo com virtual threads sob a mesma carga bloqueante (criação e listagem
+ * de pedidos no H2), na mesma taxa fixa para os dois modos. Só roda com {@code -Dload-test=true}.
+ */
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+@DisplayName("Thread mode load test")
+class ThreadModeLoadTest {
+
+    private static final int RATE = Integer.getInteger("load-test.rate", 500);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load-test.seconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load-test.warmup-seconds", 5));
+    private static final Map<String, Integer> MIX = LoadGenerator.parseMix("create:75,list:25");
+    private static final Path OUTPUT = Path.of("target", "load-test");
+
+    private LoadTestHarness harness;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        harness = new LoadTestHarness();
+    }
+
+    @AfterEach
+    void tearDown() {
+        harness.close();
+    }
+
+    @Test
+    @DisplayName("Should report throughput and latency percentiles for platform and virtual threads")
+    void shouldCompareThreadModes() throws Exception {
+        LoadGenerator.Report platform = run(false);
+        LoadGenerator.Report virtual = run(true);
+
+        assertThat(platform.errors().values()).allMatch(errors -> errors == 0);
+        assertThat(virtual.errors().values()).allMatch(errors -> errors == 0);
+    }
+
+    private LoadGenerator.Report run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (LoadTestHarness.Application application = harness.start("load-" + mode,
+                "spring.threads.virtual.enabled=" + virtualThreads)) {
+            LoadGenerator generator = harness.generator(application, MIX);
+            generator.run(RATE, WARMUP);
+            LoadGenerator.Report report = generator.run(RATE, DURATION);
+
+            LoadTestHarness.print("Modo: " + mode + " | taxa alvo: " + RATE + " req/s", report);
+            LoadTestHarness.write(OUTPUT, mode + "-", report);
+            return report;
+        }
+    }
+}
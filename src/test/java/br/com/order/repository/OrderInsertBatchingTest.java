@@ -0,0 +1,62 @@
+package br.com.order.repository;
+
+import br.com.order.SqlStatementCounter;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "app.scheduling.enabled=false"})
+@Transactional
+@DisplayName("Order insert batching")
+class OrderInsertBatchingTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("Should insert an order with 30 items in one statement for the order and one batch for the items")
+    void shouldBatchItemInserts() {
+        // Given
+        Order order = Order.builder()
+                .externalId("ORD-BATCH")
+                .customerId("CUST-001")
+                .status(OrderStatusEnum.CREATED)
+                .totalAmount(new BigDecimal("300.00"))
+                .build();
+        order.setItems(IntStream.rangeClosed(1, 30)
+                .mapToObj(index -> OrderItem.builder()
+                        .order(order)
+                        .productId("PROD-" + index)
+                        .productName("Produto " + index)
+                        .quantity(1)
+                        .unitPrice(BigDecimal.TEN)
+                        .totalPrice(BigDecimal.TEN)
+                        .build())
+                .toList());
+
+        // When
+        List<String> statements = SqlStatementCounter.record(() -> orderRepository.saveAndFlush(order));
+
+        // Then
+        // Só os inserts: quantas buscas nas sequences o otimizador faz depende do que já foi alocado antes
+        assertThat(statements.stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("insert"))
+                .toList())
+                .satisfiesExactly(
+                        sql -> assertThat(sql).startsWith("insert into orders"),
+                        sql -> assertThat(sql).startsWith("insert into order_items"));
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.order.repository;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("OrderRepository Integration Tests")
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should seek past the last (createdAt, id) without skipping orders that share a timestamp")
+    void shouldSeekOnCreatedAtAndId() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Order oldest = save("ORD-1", OrderStatusEnum.CREATED, now.minusMinutes(2));
+        Order tieLow = save("ORD-2", OrderStatusEnum.CREATED, now.minusMinutes(1));
+        Order tieHigh = save("ORD-3", OrderStatusEnum.CREATED, now.minusMinutes(1));
+        Order newest = save("ORD-4", OrderStatusEnum.CREATED, now);
+
+        // When
+        List<Long> first = orderRepository.findLatestIds(Limit.of(2));
+        List<Long> second = orderRepository.findLatestIdsBefore(tieHigh.getCreatedAt(), tieHigh.getId(), Limit.of(2));
+
+        // Then
+        assertThat(first).containsExactly(newest.getId(), tieHigh.getId());
+        assertThat(second).containsExactly(tieLow.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("Should seek within a single status")
+    void shouldSeekWithinStatus() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Order older = save("ORD-1", OrderStatusEnum.FAILED, now.minusMinutes(2));
+        save("ORD-2", OrderStatusEnum.CREATED, now.minusMinutes(1));
+        Order newer = save("ORD-3", OrderStatusEnum.FAILED, now);
+
+        // When
+        List<Long> first = orderRepository.findLatestIdsByStatus(OrderStatusEnum.FAILED, Limit.of(1));
+        List<Long> second = orderRepository.findLatestIdsByStatusBefore(OrderStatusEnum.FAILED,
+                newer.getCreatedAt(), newer.getId(), Limit.of(10));
+
+        // Then
+        assertThat(first).containsExactly(newer.getId());
+        assertThat(second).containsExactly(older.getId());
+    }
+
+    @Test
+    @DisplayName("Should page a customer's history from the latest order")
+    void shouldSeekWithinCustomer() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Order older = save("ORD-1", "CUST-002", OrderStatusEnum.CREATED, now.minusMinutes(2));
+        save("ORD-2", "CUST-001", OrderStatusEnum.CREATED, now.minusMinutes(1));
+        Order newer = save("ORD-3", "CUST-002", OrderStatusEnum.FAILED, now);
+
+        // When
+        List<Long> first = orderRepository.findLatestIdsByCustomerId("CUST-002", Limit.of(1));
+        List<Long> second = orderRepository.findLatestIdsByCustomerIdBefore("CUST-002",
+                newer.getCreatedAt(), newer.getId(), Limit.of(10));
+
+        // Then
+        assertThat(first).containsExactly(newer.getId());
+        assertThat(second).containsExactly(older.getId());
+    }
+
+    private Order save(String externalId, OrderStatusEnum status, LocalDateTime createdAt) {
+        return save(externalId, "CUST-001", status, createdAt);
+    }
+
+    private Order save(String externalId, String customerId, OrderStatusEnum status, LocalDateTime createdAt) {
+        Order order = orderRepository.saveAndFlush(Order.builder()
+                .externalId(externalId)
+                .customerId(customerId)
+                .status(status)
+                .totalAmount(BigDecimal.TEN)
+                .build());
+        // @PrePersist sobrescreve createdAt com o horário atual
+        entityManager.createQuery("UPDATE Order o SET o.createdAt = :createdAt WHERE o.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", order.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return orderRepository.findById(order.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.order.repository;
+
+import br.com.order.enums.OutboxStatusEnum;
+import br.com.order.model.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("OutboxEventRepository Integration Tests")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should return only due pending events in id order, limited to the batch size")
+    void shouldFindDuePendingEvents() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        OutboxEvent first = outboxEventRepository.save(event("ORD-1", OutboxStatusEnum.PENDING, now.minusSeconds(5)));
+        OutboxEvent second = outboxEventRepository.save(event("ORD-2", OutboxStatusEnum.PENDING, now));
+        outboxEventRepository.save(event("ORD-3", OutboxStatusEnum.PENDING, now.minusSeconds(1)));
+        outboxEventRepository.save(event("ORD-4", OutboxStatusEnum.PENDING, now.plusMinutes(1)));
+        outboxEventRepository.save(event("ORD-5", OutboxStatusEnum.SENT, now.minusMinutes(1)));
+        outboxEventRepository.flush();
+
+        // When
+        List<OutboxEvent> due = outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                OutboxStatusEnum.PENDING, now, Limit.of(2));
+
+        // Then
+        assertThat(due).extracting(OutboxEvent::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Should mark events as sent and purge them after the retention")
+    void shouldMarkSentAndPurge() {
+        // Given
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        OutboxEvent event = outboxEventRepository.saveAndFlush(event("ORD-1", OutboxStatusEnum.PENDING, now));
+
+        // When
+        int marked = outboxEventRepository.markSent(List.of(event.getId()), now.minusDays(8));
+        entityManager.clear();
+
+        // Then
+        assertThat(marked).isEqualTo(1);
+        OutboxEvent sent = outboxEventRepository.findById(event.getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(OutboxStatusEnum.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(outboxEventRepository.deleteSentBefore(now.minusDays(7))).isEqualTo(1);
+    }
+
+    private OutboxEvent event(String externalId, OutboxStatusEnum status, LocalDateTime nextAttemptAt) {
+        return OutboxEvent.builder()
+                .orderId(1L)
+                .externalId(externalId)
+                .payload("{}".getBytes())
+                .status(status)
+                .attempts(0)
+                .createdAt(nextAttemptAt)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.order.repository;
+
+import br.com.order.model.Product;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("ProductRepository Integration Tests")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.saveAndFlush(product("STOCK-001", 5));
+        productRepository.saveAndFlush(product("STOCK-002", 1));
+    }
+
+    @Test
+    @DisplayName("Should decrement stock only where the guarded quantity is available")
+    void shouldDecrementStockWithGuard() {
+        // When
+        int[] updated = productRepository.decrementStock(new TreeMap<>(Map.of("STOCK-001", 3, "STOCK-002", 2)));
+
+        // Then
+        assertThat(updated).containsExactly(1, 0);
+        assertThat(quantityOf("STOCK-001")).isEqualTo(2);
+        assertThat(quantityOf("STOCK-002")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should increment stock back for compensation")
+    void shouldIncrementStock() {
+        // When
+        int[] updated = productRepository.incrementStock(new TreeMap<>(Map.of("STOCK-001", 3)));
+
+        // Then
+        assertThat(updated).containsExactly(1);
+        assertThat(quantityOf("STOCK-001")).isEqualTo(8);
+    }
+
+    private int quantityOf(String productId) {
+        entityManager.clear();
+        return productRepository.findByProductIdIn(List.of(productId)).getFirst().getQuantity();
+    }
+
+    private Product product(String productId, int quantity) {
+        return Product.builder()
+                .productId(productId)
+                .productName("Produto " + productId)
+                .quantity(quantity)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExternalIntegrationService Unit Tests")
+class ExternalIntegrationServiceTest {
+
+    private HttpServer productB;
+    private Queue<String> requests;
+    private ExternalIntegrationService externalIntegrationService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requests = new ConcurrentLinkedQueue<>();
+        productB = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        productB.createContext("/api/orders", exchange -> {
+            requests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        productB.start();
+
+        externalIntegrationService = new ExternalIntegrationService(new RestTemplate());
+        ReflectionTestUtils.setField(externalIntegrationService, "productBEndpoint",
+                "http://127.0.0.1:" + productB.getAddress().getPort() + "/api/orders");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productB.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should coalesce many notifications into a single JSON array request")
+    void shouldSendBatchAsSingleRequest() {
+        // Given
+        List<byte[]> payloads = IntStream.rangeClosed(1, 50)
+                .mapToObj(id -> ("{\"orderId\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8))
+                .toList();
+
+        // When
+        externalIntegrationService.sendBatchToProductB(payloads);
+
+        // Then
+        assertThat(requests).hasSize(1);
+        String body = requests.peek();
+        assertThat(body).startsWith("[{\"orderId\":\"1\"},{\"orderId\":\"2\"}")
+                .endsWith(",{\"orderId\":\"50\"}]");
+    }
+
+    @Test
+    @DisplayName("Should send one request per notification in single mode")
+    void shouldSendSingleNotification() {
+        // When
+        IntStream.rangeClosed(1, 3)
+                .forEach(id -> externalIntegrationService.sendToProductB(
+                        ("{\"orderId\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(requests).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should write the Product B payload as escaped JSON bytes")
+    void shouldWritePayloadAsJson() {
+        // Given
+        Order order = Order.builder()
+                .id(42L)
+                .externalId("ORD-042")
+                .customerId("CUST \"VIP\"")
+                .totalAmount(new BigDecimal("7000.00"))
+                .status(OrderStatusEnum.CREATED)
+                .updatedAt(LocalDateTime.of(2026, 1, 10, 12, 30))
+                .build();
+
+        // When
+        byte[] payload = externalIntegrationService.createProductBPayload(order);
+
+        // Then
+        JsonNode json = new ObjectMapper().readTree(payload);
+        assertThat(json.get("orderId").asString()).isEqualTo("42");
+        assertThat(json.get("externalId").asString()).isEqualTo("ORD-042");
+        assertThat(json.get("customerId").asString()).isEqualTo("CUST \"VIP\"");
+        assertThat(json.get("totalAmount").decimalValue()).isEqualByComparingTo("7000.00");
+        assertThat(json.get("status").asString()).isEqualTo("CREATED");
+        assertThat(json.get("calculatedAt").asString()).isEqualTo("2026-01-10T12:30");
+    }
+}
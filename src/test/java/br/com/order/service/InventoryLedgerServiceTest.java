@@ -0,0 +1,185 @@
+package br.com.order.service;
+
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.ProductNotFoundException;
+import br.com.order.model.Product;
+import br.com.order.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryLedgerService Unit Tests")
+class InventoryLedgerServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private InventoryLedgerService inventoryLedgerService;
+
+    private Product notebook;
+    private Product mouse;
+
+    @BeforeEach
+    void setUp() {
+        inventoryLedgerService = new InventoryLedgerService(productRepository, transactionTemplate);
+
+        notebook = Product.builder()
+                .id(1L)
+                .productId("PROD-001")
+                .productName("Notebook Dell")
+                .quantity(10)
+                .unitPrice(new BigDecimal("3500.00"))
+                .build();
+
+        mouse = Product.builder()
+                .id(2L)
+                .productId("PROD-002")
+                .productName("Mouse")
+                .quantity(1)
+                .unitPrice(new BigDecimal("50.00"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load stock once and reserve from memory afterwards")
+    void shouldReserveFromMemory() {
+        // Given
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(notebook));
+
+        // When
+        inventoryLedgerService.reserve(Map.of("PROD-001", 4));
+        inventoryLedgerService.reserve(Map.of("PROD-001", 6));
+
+        // Then
+        assertThatThrownBy(() -> inventoryLedgerService.reserve(Map.of("PROD-001", 1)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Disponível: 0");
+        verify(productRepository, times(1)).findByProductIdIn(anyCollection());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("Should reserve all items of an order or none of them")
+    void shouldReserveAllOrNothing() {
+        // Given
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(notebook, mouse));
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryLedgerService.reserve(Map.of("PROD-001", 5, "PROD-002", 2)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("PROD-002");
+
+        inventoryLedgerService.reserve(Map.of("PROD-001", 10, "PROD-002", 1));
+    }
+
+    @Test
+    @DisplayName("Should throw ProductNotFoundException for unknown products")
+    void shouldThrowProductNotFoundForUnknownProduct() {
+        // Given
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryLedgerService.reserve(Map.of("PROD-999", 1)))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("PROD-999");
+    }
+
+    @Test
+    @DisplayName("Should never oversell under concurrent reservations")
+    void shouldNeverOversellUnderConcurrency() throws Exception {
+        // Given
+        notebook.setQuantity(1000);
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(notebook));
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 2000; i++) {
+            executor.submit(() -> {
+                try {
+                    inventoryLedgerService.reserve(Map.of("PROD-001", 1));
+                    reserved.incrementAndGet();
+                } catch (InsufficientStockException ignored) {
+                    // esperado quando o estoque acaba
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(reserved.get()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Should release reservations when the surrounding transaction rolls back")
+    void shouldReleaseOnRollback() {
+        // Given
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(mouse));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        inventoryLedgerService.reserve(Map.of("PROD-002", 1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        inventoryLedgerService.reserve(Map.of("PROD-002", 1));
+    }
+
+    @Test
+    @DisplayName("Should flush reduced quantities in one batch write-behind")
+    @SuppressWarnings("unchecked")
+    void shouldFlushDirtyQuantitiesInBatch() {
+        // Given
+        when(productRepository.findByProductIdIn(anyCollection())).thenReturn(List.of(notebook, mouse));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        inventoryLedgerService.reserve(Map.of("PROD-001", 3, "PROD-002", 1));
+        notebook.setQuantity(10);
+        mouse.setQuantity(1);
+
+        // When
+        inventoryLedgerService.flush();
+        inventoryLedgerService.flush();
+
+        // Then
+        ArgumentCaptor<List<Product>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Product::getQuantity).containsExactlyInAnyOrder(7, 0);
+    }
+}
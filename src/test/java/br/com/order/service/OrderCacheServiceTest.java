@@ -0,0 +1,56 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.enums.OrderStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderCacheService Unit Tests")
+class OrderCacheServiceTest {
+
+    private OrderCacheService orderCacheService;
+    private Cache orders;
+    private Cache ordersByExternalId;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("orders", "ordersByExternalId");
+        orders = cacheManager.getCache("orders");
+        ordersByExternalId = cacheManager.getCache("ordersByExternalId");
+        orderCacheService = new OrderCacheService(cacheManager);
+    }
+
+    @Test
+    @DisplayName("Should evict only the changed order from both caches")
+    void shouldEvictOnlyChangedOrder() {
+        // Given
+        OrderResponseDTO first = order(1L, "ORD-001");
+        OrderResponseDTO second = order(2L, "ORD-002");
+        orders.put(1L, first);
+        orders.put(2L, second);
+        ordersByExternalId.put("ORD-001", first);
+        ordersByExternalId.put("ORD-002", second);
+
+        // When
+        orderCacheService.evict(1L, "ORD-001");
+
+        // Then
+        assertThat(orders.get(1L)).isNull();
+        assertThat(ordersByExternalId.get("ORD-001")).isNull();
+        assertThat(orders.get(2L, OrderResponseDTO.class)).isSameAs(second);
+        assertThat(ordersByExternalId.get("ORD-002", OrderResponseDTO.class)).isSameAs(second);
+    }
+
+    private OrderResponseDTO order(Long id, String externalId) {
+        return OrderResponseDTO.builder()
+                .id(id)
+                .externalId(externalId)
+                .status(OrderStatusEnum.CREATED)
+                .build();
+    }
+}
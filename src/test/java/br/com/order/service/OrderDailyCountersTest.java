@@ -0,0 +1,118 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.OrderStatusCount;
+import br.com.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderDailyCounters Unit Tests")
+class OrderDailyCountersTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderDailyCounters orderDailyCounters;
+
+    private LocalDateTime today;
+
+    @BeforeEach
+    void setUp() {
+        orderDailyCounters = new OrderDailyCounters(orderRepository, transactionTemplate);
+        today = LocalDateTime.parse("2026-01-01T10:00:00");
+        setClock(today);
+    }
+
+    @Test
+    @DisplayName("Should count created orders and move them between statuses")
+    void shouldCountCreatedOrdersByStatus() {
+        // When
+        orderDailyCounters.created(today, OrderStatusEnum.PROCESSING);
+        orderDailyCounters.created(today, OrderStatusEnum.PROCESSING);
+        orderDailyCounters.created(today, OrderStatusEnum.CREATED);
+        orderDailyCounters.statusChanged(today, OrderStatusEnum.PROCESSING, OrderStatusEnum.FAILED);
+
+        // Then
+        assertThat(orderDailyCounters.total()).isEqualTo(3);
+        assertThat(orderDailyCounters.byStatus())
+                .containsEntry(OrderStatusEnum.PROCESSING, 1L)
+                .containsEntry(OrderStatusEnum.CREATED, 1L)
+                .containsEntry(OrderStatusEnum.FAILED, 1L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Should ignore orders created on another day")
+    void shouldIgnoreOrdersFromAnotherDay() {
+        // When
+        orderDailyCounters.created(today.minusDays(1), OrderStatusEnum.CREATED);
+        orderDailyCounters.statusChanged(today.minusDays(1), OrderStatusEnum.CREATED, OrderStatusEnum.FAILED);
+
+        // Then
+        assertThat(orderDailyCounters.total()).isZero();
+        assertThat(orderDailyCounters.byStatus()).allSatisfy((status, count) -> assertThat(count).isZero());
+    }
+
+    @Test
+    @DisplayName("Should start from zero when the day changes")
+    void shouldRollOverAtMidnight() {
+        // Given
+        orderDailyCounters.created(today, OrderStatusEnum.CREATED);
+
+        // When
+        setClock(today.plusDays(1).withHour(0));
+
+        // Then
+        assertThat(orderDailyCounters.total()).isZero();
+        orderDailyCounters.created(today.plusDays(1), OrderStatusEnum.CREATED);
+        assertThat(orderDailyCounters.byStatus()).containsEntry(OrderStatusEnum.CREATED, 1L);
+    }
+
+    @Test
+    @DisplayName("Should rebuild today's counts from the database")
+    void shouldRebuildFromDatabase() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(orderRepository.countByStatusSince(today.toLocalDate().atStartOfDay())).thenReturn(List.of(
+                new OrderStatusCount(OrderStatusEnum.CREATED, 5L),
+                new OrderStatusCount(OrderStatusEnum.FAILED, 2L)));
+
+        // When
+        orderDailyCounters.rebuild();
+
+        // Then
+        assertThat(orderDailyCounters.total()).isEqualTo(7);
+        assertThat(orderDailyCounters.byStatus())
+                .containsEntry(OrderStatusEnum.CREATED, 5L)
+                .containsEntry(OrderStatusEnum.FAILED, 2L)
+                .containsEntry(OrderStatusEnum.PROCESSING, 0L);
+    }
+
+    private void setClock(LocalDateTime now) {
+        ReflectionTestUtils.setField(orderDailyCounters, "clock",
+                Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+}
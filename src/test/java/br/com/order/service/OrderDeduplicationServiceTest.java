@@ -0,0 +1,141 @@
+package br.com.order.service;
+
+import br.com.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderDeduplicationService Unit Tests")
+class OrderDeduplicationServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderDeduplicationService orderDeduplicationService;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        orderDeduplicationService = new OrderDeduplicationService(orderRepository, transactionTemplate);
+        ReflectionTestUtils.setField(orderDeduplicationService, "enabled", true);
+        ReflectionTestUtils.setField(orderDeduplicationService, "ttlMinutes", 60L);
+        ReflectionTestUtils.setField(orderDeduplicationService, "expectedInsertions", 10_000L);
+        ReflectionTestUtils.setField(orderDeduplicationService, "falsePositiveRate", 0.001);
+        now = Instant.parse("2026-01-01T10:00:00Z");
+        setClock(now);
+    }
+
+    @Test
+    @DisplayName("Should answer definitely new ids without touching the database")
+    void shouldAnswerNewIdsWithoutDatabase() {
+        // When
+        boolean duplicate = orderDeduplicationService.isDuplicate("ORD-001");
+
+        // Then
+        assertThat(duplicate).isFalse();
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database only on possible hits")
+    void shouldFallBackToDatabaseOnPossibleHit() {
+        // Given
+        orderDeduplicationService.record("ORD-001");
+        when(orderRepository.existsByExternalId("ORD-001")).thenReturn(true);
+
+        // When & Then
+        assertThat(orderDeduplicationService.isDuplicate("ORD-001")).isTrue();
+        assertThat(orderDeduplicationService.isDuplicate("ORD-002")).isFalse();
+        verify(orderRepository, times(1)).existsByExternalId(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one")
+    void shouldKeepFalsePositiveRateLow() {
+        // Given
+        for (int i = 0; i < 10_000; i++) {
+            orderDeduplicationService.record("ORD-" + i);
+        }
+
+        // When
+        long falsePositives = Stream.iterate(0, i -> i + 1).limit(10_000)
+                .filter(i -> orderDeduplicationService.mightExist("NEW-" + i))
+                .count();
+
+        // Then
+        assertThat(orderDeduplicationService.mightExist("ORD-9999")).isTrue();
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("Should keep ids for at least the TTL and expire them afterwards")
+    void shouldExpireIdsAfterTtl() {
+        // Given
+        orderDeduplicationService.record("ORD-001");
+
+        // When & Then
+        setClock(now.plus(Duration.ofMinutes(60)));
+        assertThat(orderDeduplicationService.mightExist("ORD-001")).isTrue();
+
+        setClock(now.plus(Duration.ofMinutes(76)));
+        assertThat(orderDeduplicationService.mightExist("ORD-001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should always check the database when deduplication is disabled")
+    void shouldUseDatabaseWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(orderDeduplicationService, "enabled", false);
+        when(orderRepository.existsByExternalId("ORD-001")).thenReturn(false);
+
+        // When
+        boolean duplicate = orderDeduplicationService.isDuplicate("ORD-001");
+
+        // Then
+        assertThat(duplicate).isFalse();
+        verify(orderRepository).existsByExternalId("ORD-001");
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from orders created within the TTL")
+    void shouldRebuildFromDatabase() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(orderRepository.streamExternalIdsCreatedSince(any())).thenReturn(Stream.of("ORD-001", "ORD-002"));
+
+        // When
+        orderDeduplicationService.rebuild();
+
+        // Then
+        assertThat(orderDeduplicationService.mightExist("ORD-001")).isTrue();
+        assertThat(orderDeduplicationService.mightExist("ORD-002")).isTrue();
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(orderDeduplicationService, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
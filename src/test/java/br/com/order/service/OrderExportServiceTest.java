@@ -0,0 +1,150 @@
+package br.com.order.service;
+
+import br.com.order.enums.ExportFormatEnum;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.export.chunk-size=2")
+@Transactional
+@DisplayName("OrderExportService Integration Tests")
+class OrderExportServiceTest {
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        from = LocalDateTime.now().minusMinutes(1);
+        orderRepository.saveAll(IntStream.rangeClosed(1, 5).mapToObj(this::order).toList());
+        orderRepository.flush();
+        to = LocalDateTime.now().plusMinutes(1);
+    }
+
+    @Test
+    @DisplayName("Should write one NDJSON line per order with its items across several chunks")
+    void shouldExportNdjson() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = orderExportService.export(from, to, ExportFormatEnum.NDJSON, output);
+
+        // Then
+        List<JsonNode> lines = output.toString(StandardCharsets.UTF_8).lines()
+                .map(jsonMapper::readTree)
+                .toList();
+        assertThat(exported).isEqualTo(5);
+        assertThat(lines).extracting(line -> line.get("externalId").asString())
+                .containsExactly("EXP-1", "EXP-2", "EXP-3", "EXP-4", "EXP-5");
+        assertThat(lines).allSatisfy(line -> assertThat(line.get("items").size()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and one row per item, quoting values with commas")
+    void shouldExportCsv() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        orderExportService.export(from, to, ExportFormatEnum.CSV, output);
+
+        // Then
+        List<String> rows = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).hasSize(11);
+        assertThat(rows.getFirst()).startsWith("orderId,externalId,customerId,status");
+        assertThat(rows.get(1)).contains(",EXP-1,CUST-1,CREATED,20.00,").contains(",\"Cerveja, lata\",");
+    }
+
+    @Test
+    @DisplayName("Should leave out orders created outside the range")
+    void shouldRespectRange() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = orderExportService.export(to, to.plusMinutes(1), ExportFormatEnum.NDJSON, output);
+
+        // Then
+        assertThat(exported).isZero();
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export orders that have no items")
+    void shouldExportOrdersWithoutItems() throws Exception {
+        // Given
+        Order empty = Order.builder()
+                .externalId("EXP-EMPTY")
+                .customerId("CUST-0")
+                .status(OrderStatusEnum.FAILED)
+                .totalAmount(BigDecimal.ZERO)
+                .items(List.of())
+                .build();
+        orderRepository.saveAndFlush(empty);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        // When
+        long exported = orderExportService.export(from, to, ExportFormatEnum.NDJSON, ndjson);
+        orderExportService.export(from, to, ExportFormatEnum.CSV, csv);
+
+        // Then
+        assertThat(exported).isEqualTo(6);
+        assertThat(ndjson.toString(StandardCharsets.UTF_8).lines()
+                .map(jsonMapper::readTree)
+                .filter(line -> line.get("externalId").asString().equals("EXP-EMPTY")))
+                .singleElement()
+                .satisfies(line -> assertThat(line.get("items").size()).isZero());
+        assertThat(csv.toString(StandardCharsets.UTF_8).lines().filter(row -> row.contains(",EXP-EMPTY,")))
+                .singleElement()
+                .satisfies(row -> assertThat(row).endsWith(",,,,,"));
+    }
+
+    private Order order(int index) {
+        Order order = Order.builder()
+                .externalId("EXP-" + index)
+                .customerId("CUST-" + index)
+                .status(OrderStatusEnum.CREATED)
+                .totalAmount(new BigDecimal("20.00"))
+                .build();
+        order.setItems(List.of(item(order, "PROD-001", "Cerveja, lata"), item(order, "PROD-002", "Refrigerante")));
+        return order;
+    }
+
+    private OrderItem item(Order order, String productId, String productName) {
+        return OrderItem.builder()
+                .order(order)
+                .productId(productId)
+                .productName(productName)
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.order.service;
+
+import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderImportService Unit Tests")
+class OrderImportServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderRejections orderRejections;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private ValidatorFactory validatorFactory;
+    private ExecutorService executor;
+    private OrderImportService orderImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executor = Executors.newSingleThreadExecutor();
+        orderImportService = new OrderImportService(
+                orderService, jsonMapper, validatorFactory.getValidator(), executor, orderRejections);
+        ReflectionTestUtils.setField(orderImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(orderImportService, "queueCapacity", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should write one result line per input line in bounded chunks")
+    void shouldWriteOneResultPerLineInChunks() throws Exception {
+        // Given
+        stubCreatedResults();
+        String input = String.join("\n",
+                orderLine("ORD-001"),
+                orderLine("ORD-002"),
+                "",
+                orderLine("ORD-003"),
+                orderLine("ORD-004"),
+                orderLine("ORD-005"));
+
+        // When
+        List<OrderBatchResultDTO> results = runImport(input);
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getExternalId)
+                .containsExactly("ORD-001", "ORD-002", "ORD-003", "ORD-004", "ORD-005");
+        assertThat(results).extracting(OrderBatchResultDTO::getLine)
+                .containsExactly(1L, 2L, 4L, 5L, 6L);
+        verify(orderService, times(3)).createOrders(anyList(), eq(OrderRejectionSourceEnum.IMPORT));
+    }
+
+    @Test
+    @DisplayName("Should report malformed and invalid lines without stopping the import")
+    void shouldReportInvalidLines() throws Exception {
+        // Given
+        stubCreatedResults();
+        String input = String.join("\n",
+                "{not json",
+                "{\"externalId\":\"ORD-002\",\"customerId\":\"CUST-001\",\"items\":[]}",
+                orderLine("ORD-003"));
+
+        // When
+        List<OrderBatchResultDTO> results = runImport(input);
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.INVALID,
+                        OrderResultStatusEnum.INVALID,
+                        OrderResultStatusEnum.CREATED);
+        assertThat(results.get(1).getExternalId()).isEqualTo("ORD-002");
+        assertThat(results.get(1).getMessage()).contains("items");
+        verify(orderRejections, times(2)).record(OrderRejectionSourceEnum.IMPORT, OrderResultStatusEnum.INVALID);
+    }
+
+    @Test
+    @DisplayName("Should mark every line of a failed chunk as FAILED and keep importing")
+    void shouldMarkFailedChunk() throws Exception {
+        // Given
+        doThrow(new IllegalStateException("falha no banco"))
+                .doReturn(List.of(OrderBatchResultDTO.builder()
+                        .externalId("ORD-003")
+                        .result(OrderResultStatusEnum.CREATED)
+                        .build()))
+                .when(orderService).createOrders(anyList(), eq(OrderRejectionSourceEnum.IMPORT));
+
+        String input = String.join("\n", orderLine("ORD-001"), orderLine("ORD-002"), orderLine("ORD-003"));
+
+        // When
+        List<OrderBatchResultDTO> results = runImport(input);
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.FAILED,
+                        OrderResultStatusEnum.FAILED,
+                        OrderResultStatusEnum.CREATED);
+        assertThat(results.get(0).getMessage()).isEqualTo("falha no banco");
+        verify(orderRejections).record(eq(OrderRejectionSourceEnum.IMPORT), argThat((List<OrderBatchResultDTO> failed) ->
+                failed.size() == 2));
+    }
+
+    private void stubCreatedResults() {
+        when(orderService.createOrders(anyList(), eq(OrderRejectionSourceEnum.IMPORT))).thenAnswer(invocation -> {
+            List<OrderRequestDTO> requests = invocation.getArgument(0);
+            return requests.stream()
+                    .map(request -> OrderBatchResultDTO.builder()
+                            .externalId(request.getExternalId())
+                            .result(OrderResultStatusEnum.CREATED)
+                            .build())
+                    .toList();
+        });
+    }
+
+    private List<OrderBatchResultDTO> runImport(String input) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        orderImportService.importOrders(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        return output.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> jsonMapper.readValue(line, OrderBatchResultDTO.class))
+                .toList();
+    }
+
+    private String orderLine(String externalId) {
+        return "{\"externalId\":\"" + externalId + "\",\"customerId\":\"CUST-001\","
+                + "\"items\":[{\"productId\":\"PROD-001\",\"productName\":\"Notebook\",\"quantity\":1}]}";
+    }
+}
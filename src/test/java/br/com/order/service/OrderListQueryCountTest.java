@@ -0,0 +1,97 @@
+package br.com.order.service;
+
+import br.com.order.SqlStatementCounter;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "app.scheduling.enabled=false"})
+@Transactional
+@DisplayName("Order listing statement count")
+class OrderListQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.saveAll(IntStream.rangeClosed(1, 60).mapToObj(this::order).toList());
+        orderRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should run the same number of statements for pages of 5 and 50 orders")
+    void shouldNotGrowWithPageSize() {
+        long small = statements(() -> orderService.getAllOrders(PageRequest.of(0, 5, Sort.by("createdAt")))
+                .getContent());
+        long large = statements(() -> orderService.getAllOrders(PageRequest.of(0, 50, Sort.by("createdAt")))
+                .getContent());
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("Should map items of every order in the status and cursor listings without extra statements")
+    void shouldLoadItemsInOneQuery() {
+        long byStatus = statements(() -> orderService.getOrdersByStatus(OrderStatusEnum.CREATED,
+                PageRequest.of(0, 50)).getContent());
+        long scroll = statements(() -> orderService.scrollOrders(null, 50).getContent());
+
+        // ids + count + itens
+        assertThat(byStatus).isEqualTo(3);
+        // ids + itens
+        assertThat(scroll).isEqualTo(2);
+        assertThat(orderService.scrollOrders(null, 50).getContent())
+                .allSatisfy(order -> assertThat(order.getItems()).hasSize(2));
+    }
+
+    private long statements(Supplier<List<?>> listing) {
+        entityManager.clear();
+        return SqlStatementCounter.record(() -> assertThat(listing.get()).isNotEmpty()).size();
+    }
+
+    private Order order(int index) {
+        Order order = Order.builder()
+                .externalId("ORD-" + index)
+                .customerId("CUST-" + index % 10)
+                .status(OrderStatusEnum.CREATED)
+                .totalAmount(new BigDecimal("20.00"))
+                .build();
+        order.setItems(List.of(item(order, "PROD-001"), item(order, "PROD-002")));
+        return order;
+    }
+
+    private OrderItem item(Order order, String productId) {
+        return OrderItem.builder()
+                .order(order)
+                .productId(productId)
+                .productName("Produto " + productId)
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package br.com.order.service;
+
+import br.com.order.dto.OrderItemDTO;
+import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.exception.DuplicateOrderException;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.mapper.OrderMapper;
+import br.com.order.model.Order;
+import br.com.order.model.ProductSnapshot;
+import br.com.order.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPipeline Unit Tests")
+class OrderPipelineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductCatalog productCatalog;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OrderDeduplicationService orderDeduplicationService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrderDailyCounters orderDailyCounters;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderPipeline orderPipeline;
+    private OrderRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderPipeline = new OrderPipeline(orderRepository, productCatalog, stockReservationService,
+                orderDeduplicationService, outboxService, orderMapper, new TransactionTemplate(transactionManager),
+                meterRegistry, orderDailyCounters, orderRollupService, new OrderRejections(meterRegistry));
+        ReflectionTestUtils.setField(orderPipeline, "enabled", true);
+        for (String stage : List.of("validate", "price", "reserve", "persist", "notify")) {
+            ReflectionTestUtils.setField(orderPipeline, stage + "Workers", 1);
+            ReflectionTestUtils.setField(orderPipeline, stage + "QueueCapacity", 10);
+        }
+        orderPipeline.start();
+
+        request = OrderRequestDTO.builder()
+                .externalId("ORD-001")
+                .customerId("CUST-001")
+                .items(List.of(OrderItemDTO.builder().productId("PROD-001").quantity(2).build()))
+                .build();
+        lenient().when(productCatalog.getAll(anyCollection())).thenReturn(Map.of("PROD-001",
+                new ProductSnapshot("PROD-001", "Notebook Dell", new BigDecimal("3500.00"), 0L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderPipeline.stop();
+    }
+
+    @Test
+    @DisplayName("Should run every stage and return the CREATED order")
+    void shouldRunAllStages() {
+        // Given
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING),
+                eq(OrderStatusEnum.CREATED), any(LocalDateTime.class))).thenReturn(1);
+        OrderResponseDTO created = OrderResponseDTO.builder().id(1L).status(OrderStatusEnum.CREATED).build();
+        when(orderMapper.toDto(any(Order.class))).thenReturn(created);
+
+        // When
+        OrderResponseDTO response = orderPipeline.process(request);
+
+        // Then
+        assertThat(response).isEqualTo(created);
+        verify(stockReservationService).reserve(Map.of("PROD-001", 2));
+        verify(orderDeduplicationService).record("ORD-001");
+        verify(orderDailyCounters).statusChanged(any(), eq(OrderStatusEnum.PROCESSING), eq(OrderStatusEnum.CREATED));
+
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(outboxService).enqueueProductB(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(OrderStatusEnum.CREATED);
+        assertThat(captor.getValue().getTotalAmount()).isEqualByComparingTo("7000.00");
+        for (String stage : List.of("validate", "price", "reserve", "persist", "notify")) {
+            assertThat(meterRegistry.get("order.pipeline.queue.wait").tag("stage", stage).timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop at the validate stage for duplicates")
+    void shouldRejectDuplicates() {
+        // Given
+        when(orderDeduplicationService.isDuplicate("ORD-001")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> orderPipeline.process(request)).isInstanceOf(DuplicateOrderException.class);
+        verifyNoInteractions(stockReservationService, orderRepository, outboxService);
+        assertThat(rejections("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should surface insufficient stock without persisting the order")
+    void shouldRejectInsufficientStock() {
+        // Given
+        doThrow(new InsufficientStockException("Estoque insuficiente para o produto PROD-001"))
+                .when(stockReservationService).reserve(anyMap());
+
+        // When & Then
+        assertThatThrownBy(() -> orderPipeline.process(request)).isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(orderRepository, outboxService);
+        assertThat(rejections("insufficient_stock")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should release the reserved stock when the order cannot be persisted")
+    void shouldReleaseStockWhenPersistFails() {
+        // Given
+        when(orderRepository.saveAndFlush(any(Order.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_external_id"));
+
+        // When & Then
+        assertThatThrownBy(() -> orderPipeline.process(request)).isInstanceOf(DuplicateOrderException.class);
+        verify(stockReservationService).release(Map.of("PROD-001", 2));
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Should leave the order alone when its status was changed outside the pipeline")
+    void shouldSkipNotifyWhenStatusChanged() {
+        // Given
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING),
+                eq(OrderStatusEnum.CREATED), any(LocalDateTime.class))).thenReturn(0);
+
+        // When
+        orderPipeline.process(request);
+
+        // Then
+        verify(orderDailyCounters, never()).statusChanged(any(), any(), any());
+        verify(orderRollupService, never()).statusChanged(any(), any(), any(), any());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Should release the reserved stock when the order fails at the notify stage")
+    void shouldReleaseStockWhenNotifyFails() {
+        // Given
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING),
+                eq(OrderStatusEnum.CREATED), any(LocalDateTime.class))).thenReturn(1);
+        doThrow(new IllegalStateException("outbox indisponível")).when(outboxService).enqueueProductB(any(Order.class));
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING),
+                eq(OrderStatusEnum.FAILED), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        orderPipeline.process(request);
+
+        // Then
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().isStockReserved()).isTrue();
+        verify(stockReservationService).release(Map.of("PROD-001", 2));
+        assertThat(rejections("failed")).isEqualTo(1);
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("order.rejections").tag("source", "pipeline").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.model.Order;
+import br.com.order.model.OrderItem;
+import br.com.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderProcessor Unit Tests")
+class OrderProcessorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OrderCacheService orderCacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrderDailyCounters orderDailyCounters;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    @Mock
+    private OrderRejections orderRejections;
+
+    private OrderProcessor orderProcessor;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        orderProcessor = new OrderProcessor(orderRepository, stockReservationService, outboxService,
+                orderCacheService, new TransactionTemplate(transactionManager), orderDailyCounters,
+                orderRollupService, orderRejections, Runnable::run);
+        ReflectionTestUtils.setField(orderProcessor, "staleAfter", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(orderProcessor, "recoveryBatchSize", 100);
+
+        order = Order.builder()
+                .id(1L)
+                .externalId("ORD-001")
+                .customerId("CUST-001")
+                .status(OrderStatusEnum.PROCESSING)
+                .totalAmount(new BigDecimal("7000.00"))
+                .items(List.of(
+                        OrderItem.builder().productId("PROD-001").quantity(2).build(),
+                        OrderItem.builder().productId("PROD-001").quantity(1).build()))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should reserve stock, move the order to CREATED and enqueue the notification")
+    void shouldCompleteAcceptedOrder() {
+        // Given
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.saveAndFlush(order)).thenReturn(order);
+
+        // When
+        orderProcessor.process(1L);
+
+        // Then
+        verify(stockReservationService).reserve(Map.of("PROD-001", 3));
+        assertThat(order.getStatus()).isEqualTo(OrderStatusEnum.CREATED);
+        verify(outboxService).enqueueProductB(order);
+        verify(orderCacheService).evict(1L, "ORD-001");
+        verify(orderDailyCounters).statusChanged(order.getCreatedAt(), OrderStatusEnum.PROCESSING,
+                OrderStatusEnum.CREATED);
+    }
+
+    @Test
+    @DisplayName("Should mark the order FAILED when stock cannot be reserved")
+    void shouldFailOrderWithoutStock() {
+        // Given
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        doThrow(new InsufficientStockException("Estoque insuficiente para o produto PROD-001"))
+                .when(stockReservationService).reserve(anyMap());
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING), eq(OrderStatusEnum.FAILED),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        orderProcessor.process(1L);
+
+        // Then
+        verify(orderDailyCounters).statusChanged(order.getCreatedAt(), OrderStatusEnum.PROCESSING,
+                OrderStatusEnum.FAILED);
+        verify(orderCacheService).evict(1L, "ORD-001");
+        verify(stockReservationService, never()).release(anyMap());
+        verify(orderRejections).record(eq(OrderRejectionSourceEnum.ASYNC), any(InsufficientStockException.class));
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("Should skip orders that are no longer PROCESSING")
+    void shouldSkipProcessedOrder() {
+        // Given
+        order.setStatus(OrderStatusEnum.CREATED);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+        // When
+        orderProcessor.process(1L);
+
+        // Then
+        verifyNoInteractions(stockReservationService, outboxService, orderCacheService);
+        verify(orderRepository, never()).saveAndFlush(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should resume orders left in PROCESSING longer than stale-after")
+    void shouldRecoverStaleOrders() {
+        // Given
+        when(orderRepository.findIdsByStatusUpdatedBefore(eq(OrderStatusEnum.PROCESSING),
+                any(LocalDateTime.class), eq(Limit.of(100)))).thenReturn(List.of(1L));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.saveAndFlush(order)).thenReturn(order);
+
+        // When
+        orderProcessor.recover();
+
+        // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatusEnum.CREATED);
+        verify(outboxService).enqueueProductB(order);
+    }
+
+    @Test
+    @DisplayName("Should not reserve stock again when recovering an order that already reserved it")
+    void shouldRecoverOrderWithReservedStock() {
+        // Given
+        order.setStockReserved(true);
+        when(orderRepository.findIdsByStatusUpdatedBefore(eq(OrderStatusEnum.PROCESSING),
+                any(LocalDateTime.class), eq(Limit.of(100)))).thenReturn(List.of(1L));
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.saveAndFlush(order)).thenReturn(order);
+
+        // When
+        orderProcessor.recover();
+
+        // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatusEnum.CREATED);
+        verifyNoInteractions(stockReservationService);
+        verify(outboxService).enqueueProductB(order);
+    }
+
+    @Test
+    @DisplayName("Should release the stock already reserved when a recovered order fails")
+    void shouldReleaseReservedStockWhenFailing() {
+        // Given
+        order.setStockReserved(true);
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.saveAndFlush(order)).thenReturn(order);
+        doThrow(new IllegalStateException("outbox indisponível")).when(outboxService).enqueueProductB(order);
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.PROCESSING), eq(OrderStatusEnum.FAILED),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        orderProcessor.process(1L);
+
+        // Then
+        verify(stockReservationService, never()).reserve(anyMap());
+        verify(stockReservationService).release(Map.of("PROD-001", 3));
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.OrderBatchResultDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
+import br.com.order.exception.DuplicateOrderException;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.ProductNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderRejections Unit Tests")
+class OrderRejectionsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderRejections orderRejections;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderRejections = new OrderRejections(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count every result except CREATED, tagged by source and reason")
+    void shouldCountBatchRejections() {
+        // Given
+        List<OrderBatchResultDTO> results = List.of(
+                result(OrderResultStatusEnum.CREATED),
+                result(OrderResultStatusEnum.DUPLICATE),
+                result(OrderResultStatusEnum.DUPLICATE),
+                result(OrderResultStatusEnum.PRODUCT_NOT_FOUND));
+
+        // When
+        orderRejections.record(OrderRejectionSourceEnum.BATCH, results);
+
+        // Then
+        assertThat(count("batch", "duplicate")).isEqualTo(2);
+        assertThat(count("batch", "product_not_found")).isEqualTo(1);
+        assertThat(meterRegistry.find("order.rejections").tag("reason", "created").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map the rejection exceptions to their reason and anything else to failed")
+    void shouldMapExceptionsToReasons() {
+        // When
+        orderRejections.record(OrderRejectionSourceEnum.API, new DuplicateOrderException("duplicado"));
+        orderRejections.record(OrderRejectionSourceEnum.API, new InsufficientStockException("sem estoque"));
+        orderRejections.record(OrderRejectionSourceEnum.API, new ProductNotFoundException("sem produto"));
+        orderRejections.record(OrderRejectionSourceEnum.ASYNC, new IllegalStateException("falha"));
+
+        // Then
+        assertThat(count("api", "duplicate")).isEqualTo(1);
+        assertThat(count("api", "insufficient_stock")).isEqualTo(1);
+        assertThat(count("api", "product_not_found")).isEqualTo(1);
+        assertThat(count("async", "failed")).isEqualTo(1);
+    }
+
+    private OrderBatchResultDTO result(OrderResultStatusEnum status) {
+        return OrderBatchResultDTO.builder().externalId("ORD-001").result(status).build();
+    }
+
+    private double count(String source, String reason) {
+        return meterRegistry.get("order.rejections").tag("source", source).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.order.service;
+
+import br.com.order.dto.response.OrderRollupDTO;
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.RollupGranularityEnum;
+import br.com.order.model.OrderRollup;
+import br.com.order.model.OrderStatusSnapshot;
+import br.com.order.repository.OrderRepository;
+import br.com.order.repository.OrderRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderRollupService Unit Tests")
+class OrderRollupServiceTest {
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderRollupService orderRollupService;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        orderRollupService = new OrderRollupService(orderRollupRepository, orderRepository, transactionTemplate);
+        ReflectionTestUtils.setField(orderRollupService, "minuteRetention", Duration.ofHours(2));
+        ReflectionTestUtils.setField(orderRollupService, "hourRetention", Duration.ofDays(1));
+        ReflectionTestUtils.setField(orderRollupService, "snapshotGrace", Duration.ofMinutes(1));
+        now = LocalDateTime.parse("2026-01-01T10:30:00");
+        setClock(now);
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Should count orders, revenue and status per minute and per hour")
+    void shouldAggregateCreatedOrders() {
+        // Given
+        restore(List.of(), Stream.empty());
+        LocalDateTime createdAt = now.withMinute(10);
+
+        // When
+        orderRollupService.created(createdAt, new BigDecimal("100.00"), OrderStatusEnum.PROCESSING);
+        orderRollupService.created(createdAt, new BigDecimal("50.50"), OrderStatusEnum.PROCESSING);
+        orderRollupService.statusChanged(createdAt, new BigDecimal("100.00"),
+                OrderStatusEnum.PROCESSING, OrderStatusEnum.CREATED);
+        orderRollupService.statusChanged(createdAt, new BigDecimal("50.50"),
+                OrderStatusEnum.PROCESSING, OrderStatusEnum.FAILED);
+
+        // Then
+        List<OrderRollupDTO> minutes = orderRollupService.query(RollupGranularityEnum.MINUTE,
+                createdAt, createdAt.plusMinutes(1));
+        assertThat(minutes).singleElement().satisfies(minute -> {
+            assertThat(minute.getBucketStart()).isEqualTo(createdAt);
+            assertThat(minute.getOrders()).isEqualTo(2);
+            assertThat(minute.getRevenue()).isEqualByComparingTo("100.00");
+            assertThat(minute.getStatuses())
+                    .containsEntry(OrderStatusEnum.CREATED, 1L)
+                    .containsEntry(OrderStatusEnum.FAILED, 1L)
+                    .containsEntry(OrderStatusEnum.PROCESSING, 0L);
+        });
+        assertThat(orderRollupService.query(RollupGranularityEnum.HOUR, now.withMinute(0), now))
+                .singleElement()
+                .satisfies(hour -> assertThat(hour.getOrders()).isEqualTo(2));
+        verify(orderRollupRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return every bucket of the range, limited to the retained window")
+    void shouldReturnEmptyBucketsWithinWindow() {
+        // Given
+        restore(List.of(), Stream.empty());
+
+        // When
+        List<OrderRollupDTO> hours = orderRollupService.query(RollupGranularityEnum.HOUR,
+                now.minusDays(3), now.plusDays(1));
+
+        // Then
+        assertThat(hours).hasSize(24);
+        assertThat(hours.getFirst().getBucketStart()).isEqualTo(now.withMinute(0).minusHours(23));
+        assertThat(hours.getLast().getBucketStart()).isEqualTo(now.withMinute(0));
+        assertThat(hours).allSatisfy(hour -> assertThat(hour.getOrders()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should write only closed buckets that changed since the last snapshot")
+    void shouldSnapshotClosedDirtyBuckets() {
+        // Given
+        restore(List.of(), Stream.empty());
+        orderRollupService.created(now.withMinute(10), new BigDecimal("10.00"), OrderStatusEnum.CREATED);
+        orderRollupService.created(now.withMinute(29).withSecond(30), new BigDecimal("10.00"),
+                OrderStatusEnum.CREATED);
+
+        // When
+        orderRollupService.snapshot();
+        orderRollupService.snapshot();
+
+        // Then
+        verify(orderRollupRepository).deleteBuckets(RollupGranularityEnum.MINUTE, List.of(now.withMinute(10)));
+        verify(orderRollupRepository, never()).deleteBuckets(eq(RollupGranularityEnum.HOUR), anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderRollup>> rows = ArgumentCaptor.forClass(List.class);
+        verify(orderRollupRepository, times(2)).saveAll(rows.capture());
+        assertThat(rows.getAllValues().getFirst()).singleElement().satisfies(row -> {
+            assertThat(row.getGranularity()).isEqualTo(RollupGranularityEnum.MINUTE);
+            assertThat(row.getStatus()).isEqualTo(OrderStatusEnum.CREATED);
+            assertThat(row.getOrders()).isEqualTo(1);
+            assertThat(row.getRevenue()).isEqualByComparingTo("10.00");
+        });
+        assertThat(rows.getAllValues().getLast()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should restore from the rollup table and read only orders created after the last saved bucket")
+    void shouldRestoreFromSnapshot() {
+        // Given
+        LocalDateTime previousHour = now.withMinute(0).minusHours(1);
+        LocalDateTime savedMinute = now.withMinute(5);
+        OrderRollup hourRow = row(RollupGranularityEnum.HOUR, previousHour, 7, "70.00");
+        OrderRollup minuteRow = row(RollupGranularityEnum.MINUTE, savedMinute, 2, "20.00");
+        LocalDateTime resumeFrom = savedMinute.plusMinutes(1);
+        when(orderRepository.streamStatusCreatedSince(resumeFrom)).thenReturn(Stream.of(
+                new OrderStatusSnapshot(OrderStatusEnum.CREATED, now.withMinute(20), new BigDecimal("5.00"))));
+
+        // When
+        restore(List.of(hourRow, minuteRow), null);
+
+        // Then
+        List<OrderRollupDTO> hours = orderRollupService.query(RollupGranularityEnum.HOUR, previousHour, now);
+        assertThat(hours).extracting(OrderRollupDTO::getOrders).containsExactly(7L, 3L);
+        assertThat(hours.getLast().getRevenue()).isEqualByComparingTo("25.00");
+        assertThat(orderRollupService.query(RollupGranularityEnum.MINUTE, savedMinute, savedMinute.plusMinutes(1)))
+                .singleElement()
+                .satisfies(minute -> assertThat(minute.getOrders()).isEqualTo(2));
+    }
+
+    private void restore(List<OrderRollup> rows, Stream<OrderStatusSnapshot> orders) {
+        when(orderRollupRepository.findByBucketStartGreaterThanEqual(now.minusDays(1))).thenReturn(rows);
+        if (orders != null) {
+            when(orderRepository.streamStatusCreatedSince(any())).thenReturn(orders);
+        }
+        orderRollupService.restore();
+    }
+
+    private OrderRollup row(RollupGranularityEnum granularity, LocalDateTime bucketStart, long orders,
+                            String revenue) {
+        return OrderRollup.builder()
+                .granularity(granularity)
+                .bucketStart(bucketStart)
+                .status(OrderStatusEnum.CREATED)
+                .orders(orders)
+                .revenue(new BigDecimal(revenue))
+                .build();
+    }
+
+    private void setClock(LocalDateTime time) {
+        ReflectionTestUtils.setField(orderRollupService, "clock",
+                Clock.fixed(time.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+}
@@ -2,36 +2,46 @@ package br.com.order.service;
 
 import br.com.order.dto.OrderItemDTO;
 import br.com.order.dto.request.OrderRequestDTO;
+import br.com.order.dto.response.CursorPageDTO;
+import br.com.order.dto.response.OrderBatchResultDTO;
 import br.com.order.dto.response.OrderResponseDTO;
+import br.com.order.enums.OrderRejectionSourceEnum;
+import br.com.order.enums.OrderResultStatusEnum;
 import br.com.order.enums.OrderStatusEnum;
 import br.com.order.exception.DuplicateOrderException;
 import br.com.order.exception.InsufficientStockException;
+import br.com.order.exception.InvalidCursorException;
 import br.com.order.exception.OrderNotFoundException;
 import br.com.order.exception.ProductNotFoundException;
 import br.com.order.mapper.OrderMapper;
 import br.com.order.model.Order;
 import br.com.order.model.OrderItem;
-import br.com.order.model.Product;
+import br.com.order.model.ProductSnapshot;
 import br.com.order.repository.OrderRepository;
-import br.com.order.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,33 +55,51 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
 
     @Mock
-    private ExternalIntegrationService externalIntegrationService;
+    private OutboxService outboxService;
 
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OrderDeduplicationService orderDeduplicationService;
+
+    @Mock
+    private OrderCacheService orderCacheService;
+
+    @Mock
+    private OrderProcessor orderProcessor;
+
+    @Mock
+    private OrderDailyCounters orderDailyCounters;
+
+    @Mock
+    private OrderRollupService orderRollupService;
+
+    @Mock
+    private OrderRejections orderRejections;
+
     @InjectMocks
     @Spy
     private OrderService orderService;
 
     private OrderRequestDTO orderRequestDTO;
-    private Product product;
+    private ProductSnapshot product;
     private Order order;
     private OrderResponseDTO orderResponseDTO;
 
     @BeforeEach
     void setUp() {
         // Setup Product
-        product = Product.builder()
-                .id(1L)
-                .productId("PROD-001")
-                .productName("Notebook Dell")
-                .quantity(10)
-                .unitPrice(new BigDecimal("3500.00"))
-                .build();
+        product = new ProductSnapshot("PROD-001", "Notebook Dell", new BigDecimal("3500.00"), 0L);
 
         // Setup OrderRequestDTO
         OrderItemDTO itemDTO = OrderItemDTO.builder()
@@ -116,6 +144,8 @@ class OrderServiceTest {
                 .status(OrderStatusEnum.CREATED)
                 .totalAmount(new BigDecimal("7000.00"))
                 .build();
+
+        ReflectionTestUtils.setField(orderService, "batchSize", 1000);
     }
 
 
@@ -123,17 +153,184 @@ class OrderServiceTest {
     @DisplayName("Should throw DuplicateOrderException when externalId already exists")
     void shouldThrowDuplicateOrderExceptionWhenExternalIdExists() {
         // Given
-        when(orderRepository.existsByExternalId("ORD-001")).thenReturn(true);
+        when(orderDeduplicationService.isDuplicate("ORD-001")).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> orderService.createOrder(orderRequestDTO))
                 .isInstanceOf(DuplicateOrderException.class)
                 .hasMessageContaining("ORD-001");
 
-        verify(orderRepository).existsByExternalId("ORD-001");
+        verify(orderDeduplicationService).isDuplicate("ORD-001");
         verify(orderRepository, never()).save(any(Order.class));
+        verify(orderRejections).record(eq(OrderRejectionSourceEnum.API), any(DuplicateOrderException.class));
+    }
+
+
+    @Test
+    @DisplayName("Should price and build items from the catalog snapshot")
+    void shouldCreateOrderUsingCatalogSnapshot() {
+        // Given
+        when(productCatalog.get("PROD-001")).thenReturn(product);
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(orderResponseDTO);
+
+        // When
+        orderService.createOrder(orderRequestDTO);
+
+        // Then
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).saveAndFlush(captor.capture());
+        Order saved = captor.getValue();
+        assertThat(saved.getTotalAmount()).isEqualByComparingTo("7000.00");
+        assertThat(saved.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getProductName()).isEqualTo("Notebook Dell");
+            assertThat(item.getUnitPrice()).isEqualByComparingTo("3500.00");
+            assertThat(item.getTotalPrice()).isEqualByComparingTo("7000.00");
+        });
+        verify(stockReservationService).reserve(Map.of("PROD-001", 2));
+        verify(orderDeduplicationService).record("ORD-001");
+        verify(outboxService).enqueueProductB(saved);
+    }
+
+    @Test
+    @DisplayName("Should accept an order as PROCESSING and hand it to the asynchronous processor")
+    void shouldAcceptOrderForAsyncProcessing() {
+        // Given
+        when(productCatalog.get("PROD-001")).thenReturn(product);
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order saved = invocation.getArgument(0);
+            saved.setId(10L);
+            return saved;
+        });
+        when(orderMapper.toDto(any(Order.class))).thenReturn(orderResponseDTO);
+
+        // When
+        orderService.acceptOrder(orderRequestDTO);
+
+        // Then
+        ArgumentCaptor<Order> captor = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(OrderStatusEnum.PROCESSING);
+        verify(orderDeduplicationService).record("ORD-001");
+        verify(orderProcessor).process(10L);
+        verifyNoInteractions(stockReservationService, outboxService);
+        verify(orderService, never()).processOrder(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should create orders in batch checking every externalId in one query")
+    void shouldCreateOrdersInBatch() {
+        // Given
+        OrderRequestDTO second = OrderRequestDTO.builder()
+                .externalId("ORD-002")
+                .customerId("CUST-002")
+                .items(List.of(OrderItemDTO.builder().productId("PROD-001").quantity(3).build()))
+                .build();
+
+        when(productCatalog.getAll(anyCollection())).thenReturn(Map.of("PROD-001", product));
+
+        // When
+        List<OrderBatchResultDTO> results = orderService.createOrders(List.of(orderRequestDTO, second));
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.CREATED, OrderResultStatusEnum.CREATED);
+        verify(stockReservationService).reserve(Map.of("PROD-001", 2));
+        verify(stockReservationService).reserve(Map.of("PROD-001", 3));
+        verify(orderRepository, times(1)).findExistingExternalIds(List.of("ORD-001", "ORD-002"));
+        verify(orderDeduplicationService, never()).mightExist(any());
+        verify(productCatalog, times(1)).getAll(anyCollection());
+        verify(orderDeduplicationService).record("ORD-001");
+        verify(orderDeduplicationService).record("ORD-002");
+        verify(orderRepository, times(1)).saveAll(anyCollection());
+        verify(outboxService, times(2)).enqueueProductB(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should report duplicates without failing the batch")
+    void shouldReportDuplicatesInBatch() {
+        // Given
+        OrderRequestDTO repeated = OrderRequestDTO.builder()
+                .externalId("ORD-002")
+                .customerId("CUST-002")
+                .items(List.of(OrderItemDTO.builder().productId("PROD-001").quantity(1).build()))
+                .build();
+
+        when(orderRepository.findExistingExternalIds(List.of("ORD-001", "ORD-002", "ORD-002")))
+                .thenReturn(Set.of("ORD-001"));
+        when(productCatalog.getAll(anyCollection())).thenReturn(Map.of("PROD-001", product));
+
+        // When
+        List<OrderBatchResultDTO> results = orderService.createOrders(
+                List.of(orderRequestDTO, repeated, repeated));
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.DUPLICATE,
+                        OrderResultStatusEnum.CREATED,
+                        OrderResultStatusEnum.DUPLICATE);
+        verify(stockReservationService, times(1)).reserve(anyMap());
+    }
+
+    @Test
+    @DisplayName("Should report insufficient stock and missing products without failing the batch")
+    void shouldReportStockAndProductFailuresInBatch() {
+        // Given
+        OrderRequestDTO tooMany = OrderRequestDTO.builder()
+                .externalId("ORD-002")
+                .customerId("CUST-002")
+                .items(List.of(OrderItemDTO.builder().productId("PROD-001").quantity(50).build()))
+                .build();
+        OrderRequestDTO unknown = OrderRequestDTO.builder()
+                .externalId("ORD-003")
+                .customerId("CUST-003")
+                .items(List.of(OrderItemDTO.builder().productId("PROD-999").quantity(1).build()))
+                .build();
+
+        when(productCatalog.getAll(anyCollection())).thenReturn(Map.of("PROD-001", product));
+        doThrow(new InsufficientStockException("Estoque insuficiente para o produto PROD-001"))
+                .when(stockReservationService).reserve(Map.of("PROD-001", 50));
+
+        // When
+        List<OrderBatchResultDTO> results = orderService.createOrders(
+                List.of(tooMany, unknown, orderRequestDTO));
+
+        // Then
+        assertThat(results).extracting(OrderBatchResultDTO::getResult)
+                .containsExactly(OrderResultStatusEnum.INSUFFICIENT_STOCK,
+                        OrderResultStatusEnum.PRODUCT_NOT_FOUND,
+                        OrderResultStatusEnum.CREATED);
+        assertThat(results.get(0).getMessage()).contains("PROD-001");
+        verify(stockReservationService, never()).reserve(Map.of("PROD-999", 1));
+        verify(stockReservationService).reserve(Map.of("PROD-001", 2));
+        verify(orderRejections).record(OrderRejectionSourceEnum.BATCH, results);
     }
 
+    @Test
+    @DisplayName("Should persist batch in chunks sized by app.batch.size")
+    void shouldPersistBatchInChunks() {
+        // Given
+        ReflectionTestUtils.setField(orderService, "batchSize", 2);
+        List<OrderRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            requests.add(OrderRequestDTO.builder()
+                    .externalId("ORD-" + i)
+                    .customerId("CUST-001")
+                    .items(List.of(OrderItemDTO.builder().productId("PROD-001").quantity(1).build()))
+                    .build());
+        }
+
+        when(productCatalog.getAll(anyCollection())).thenReturn(Map.of("PROD-001", product));
+
+        // When
+        List<OrderBatchResultDTO> results = orderService.createOrders(requests);
+
+        // Then
+        assertThat(results).hasSize(5);
+        verify(orderRepository, times(3)).saveAll(anyCollection());
+        verify(orderRepository, times(3)).flush();
+        verify(entityManager, times(5)).detach(any(Order.class));
+    }
 
     @Test
     @DisplayName("Should get order by id successfully")
@@ -201,10 +398,10 @@ class OrderServiceTest {
     void shouldGetAllOrdersWithPagination() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<Order> orders = List.of(order);
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, 1);
+        Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
 
-        when(orderRepository.findAll(pageable)).thenReturn(orderPage);
+        when(orderRepository.findPageOfIds(pageable)).thenReturn(idPage);
+        when(orderRepository.findWithItemsByIdIn(List.of(1L))).thenReturn(List.of(order));
         when(orderMapper.toDto(any(Order.class))).thenReturn(orderResponseDTO);
 
         // When
@@ -214,7 +411,7 @@ class OrderServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(orderRepository).findAll(pageable);
+        verify(orderRepository).findPageOfIds(pageable);
     }
 
     @Test
@@ -222,10 +419,10 @@ class OrderServiceTest {
     void shouldGetOrdersByStatusWithPagination() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        List<Order> orders = List.of(order);
-        Page<Order> orderPage = new PageImpl<>(orders, pageable, 1);
+        Page<Long> idPage = new PageImpl<>(List.of(1L), pageable, 1);
 
-        when(orderRepository.findByStatus(OrderStatusEnum.CREATED, pageable)).thenReturn(orderPage);
+        when(orderRepository.findPageOfIdsByStatus(OrderStatusEnum.CREATED, pageable)).thenReturn(idPage);
+        when(orderRepository.findWithItemsByIdIn(List.of(1L))).thenReturn(List.of(order));
         when(orderMapper.toDto(any(Order.class))).thenReturn(orderResponseDTO);
 
         // When
@@ -234,7 +431,44 @@ class OrderServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        verify(orderRepository).findByStatus(OrderStatusEnum.CREATED, pageable);
+        verify(orderRepository).findPageOfIdsByStatus(OrderStatusEnum.CREATED, pageable);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor page and continue after the last order")
+    void shouldScrollOrdersWithCursor() {
+        // Given
+        Order older = Order.builder().id(2L).createdAt(order.getCreatedAt().minusMinutes(1)).build();
+        when(orderRepository.findLatestIds(Limit.of(2))).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findWithItemsByIdIn(List.of(1L, 2L))).thenReturn(List.of(older, order));
+        when(orderMapper.toDto(any(Order.class))).thenReturn(orderResponseDTO);
+
+        // When
+        CursorPageDTO<OrderResponseDTO> first = orderService.scrollOrders(null, 1);
+
+        // Then
+        assertThat(first.getContent()).hasSize(1);
+        assertThat(first.getNextCursor()).isNotNull();
+
+        // When
+        when(orderRepository.findLatestIdsBefore(order.getCreatedAt(), 1L, Limit.of(2))).thenReturn(List.of(2L));
+        when(orderRepository.findWithItemsByIdIn(List.of(2L))).thenReturn(List.of(older));
+        CursorPageDTO<OrderResponseDTO> second = orderService.scrollOrders(first.getNextCursor(), 1);
+
+        // Then
+        assertThat(second.getContent()).hasSize(1);
+        assertThat(second.getNextCursor()).isNull();
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+        verify(orderRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that was not issued by the order listing")
+    void shouldRejectInvalidCursor() {
+        // When & Then
+        assertThatThrownBy(() -> orderService.scrollOrdersByStatus(OrderStatusEnum.CREATED, "não-é-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
@@ -242,44 +476,65 @@ class OrderServiceTest {
     void shouldUpdateOrderStatusSuccessfully() {
         // Given
         Long orderId = 1L;
-        OrderStatusEnum newStatus = OrderStatusEnum.CREATED;
+        OrderStatusEnum newStatus = OrderStatusEnum.FAILED;
 
-        doNothing().when(orderRepository).updateOrderStatus(orderId, newStatus);
+        when(orderRepository.findForUpdateById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateOrderStatusFrom(eq(orderId), eq(OrderStatusEnum.CREATED), eq(newStatus),
+                any(LocalDateTime.class))).thenReturn(1);
 
         // When
         orderService.updateOrderStatus(orderId, newStatus);
 
         // Then
-        verify(orderRepository).updateOrderStatus(orderId, newStatus);
+        verify(orderDailyCounters).statusChanged(order.getCreatedAt(), OrderStatusEnum.CREATED, newStatus);
+        verify(orderRollupService).statusChanged(order.getCreatedAt(), order.getTotalAmount(),
+                OrderStatusEnum.CREATED, newStatus);
+        verify(orderCacheService).evict(orderId, "ORD-001");
     }
 
+    @Test
+    @DisplayName("Should fail instead of retrying when the locked row does not match the conditional update")
+    void shouldFailWhenStatusUpdateMatchesNoRow() {
+        // Given
+        when(orderRepository.findForUpdateById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.updateOrderStatusFrom(eq(1L), eq(OrderStatusEnum.CREATED), eq(OrderStatusEnum.FAILED),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.updateOrderStatus(1L, OrderStatusEnum.FAILED))
+                .isInstanceOf(IllegalStateException.class);
+        verify(orderRepository).findForUpdateById(1L);
+        verifyNoInteractions(orderCacheService, orderDailyCounters, orderRollupService);
+    }
 
     @Test
-    @DisplayName("Should find product by productId successfully")
-    void shouldFindProductByProductIdSuccessfully() {
+    @DisplayName("Should throw OrderNotFoundException when updating status of unknown order")
+    void shouldThrowOrderNotFoundExceptionWhenUpdatingUnknownOrder() {
         // Given
-        when(productRepository.findByProductId("PROD-001")).thenReturn(Optional.of(product));
+        when(orderRepository.findForUpdateById(999L)).thenReturn(Optional.empty());
 
-        // When
-        Product result = orderService.findProductById("PROD-001");
+        // When & Then
+        assertThatThrownBy(() -> orderService.updateOrderStatus(999L, OrderStatusEnum.FAILED))
+                .isInstanceOf(OrderNotFoundException.class)
+                .hasMessageContaining("999");
 
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getProductId()).isEqualTo("PROD-001");
-        verify(productRepository).findByProductId("PROD-001");
+        verifyNoInteractions(orderCacheService, orderDailyCounters);
     }
 
     @Test
-    @DisplayName("Should throw ProductNotFoundException when product not found by productId")
-    void shouldThrowProductNotFoundExceptionWhenProductNotFoundByProductId() {
+    @DisplayName("Should answer today's counts from the in-memory counters")
+    void shouldReadTodayCountsFromCounters() {
         // Given
-        when(productRepository.findByProductId("PROD-999")).thenReturn(Optional.empty());
+        when(orderDailyCounters.total()).thenReturn(3L);
+        when(orderDailyCounters.byStatus()).thenReturn(Map.of(OrderStatusEnum.CREATED, 3L));
 
-        // When & Then
-        assertThatThrownBy(() -> orderService.findProductById("PROD-999"))
-                .isInstanceOf(ProductNotFoundException.class)
-                .hasMessageContaining("PROD-999");
+        // When
+        Long total = orderService.getTodayOrdersCount();
+        Map<OrderStatusEnum, Long> byStatus = orderService.getTodayOrdersCountByStatus();
 
-        verify(productRepository).findByProductId("PROD-999");
+        // Then
+        assertThat(total).isEqualTo(3L);
+        assertThat(byStatus).containsEntry(OrderStatusEnum.CREATED, 3L);
+        verifyNoInteractions(orderRepository);
     }
 }
@@ -0,0 +1,262 @@
+package br.com.order.service;
+
+import br.com.order.enums.OrderStatusEnum;
+import br.com.order.enums.OutboxStatusEnum;
+import br.com.order.model.Order;
+import br.com.order.model.OutboxEvent;
+import br.com.order.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxService Unit Tests")
+class OutboxServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-10T12:00:00Z");
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ExternalIntegrationService externalIntegrationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxService = new OutboxService(outboxEventRepository, externalIntegrationService,
+                new TransactionTemplate(transactionManager), Runnable::run, meterRegistry);
+        ReflectionTestUtils.setField(outboxService, "batchSize", 2);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxService, "initialBackoff", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(outboxService, "maxBackoff", Duration.ofSeconds(3));
+        ReflectionTestUtils.setField(outboxService, "retention", Duration.ofDays(7));
+        ReflectionTestUtils.setField(outboxService, "clock", Clock.fixed(NOW, ZoneOffset.UTC));
+        ReflectionTestUtils.setField(outboxService, "bulkMaxSize", 2);
+        ReflectionTestUtils.setField(outboxService, "bulkLingerMs", 500L);
+        ReflectionTestUtils.setField(outboxService, "bulkMaxInFlight", 2);
+    }
+
+    @Test
+    @DisplayName("Should write a pending outbox event with the Product B payload")
+    void shouldEnqueuePendingEvent() {
+        // Given
+        Order order = Order.builder()
+                .id(1L)
+                .externalId("ORD-001")
+                .customerId("CUST-001")
+                .status(OrderStatusEnum.CREATED)
+                .totalAmount(new BigDecimal("7000.00"))
+                .build();
+        when(externalIntegrationService.createProductBPayload(order)).thenReturn(payload(1L));
+
+        // When
+        outboxService.enqueueProductB(order);
+
+        // Then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatusEnum.PENDING);
+        assertThat(event.getOrderId()).isEqualTo(1L);
+        assertThat(event.getPayload()).isEqualTo(payload(1L));
+        assertThat(event.getAttempts()).isZero();
+        assertThat(event.getNextAttemptAt()).isEqualTo(now());
+        verifyNoMoreInteractions(externalIntegrationService);
+    }
+
+    @Test
+    @DisplayName("Should drain full batches and mark delivered events as sent")
+    void shouldDrainBatchesAndMarkSent() {
+        // Given
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(OutboxStatusEnum.PENDING), eq(now()), any(Limit.class)))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0)))
+                .thenReturn(List.of(event(3L, 0)));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        verify(externalIntegrationService, times(3)).sendToProductB(any(byte[].class));
+        verify(outboxEventRepository).markSent(List.of(1L, 2L), now());
+        verify(outboxEventRepository).markSent(List.of(3L), now());
+        verify(outboxEventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reschedule failed events with exponential backoff and stop draining")
+    void shouldRescheduleFailuresWithBackoff() {
+        // Given
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 2);
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(), any(), any(Limit.class)))
+                .thenReturn(List.of(first, second));
+        doThrow(new ResourceAccessException("Connection refused"))
+                .when(externalIntegrationService).sendToProductB(any(byte[].class));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(OutboxStatusEnum.PENDING);
+        assertThat(first.getNextAttemptAt()).isEqualTo(now().plusSeconds(1));
+        assertThat(first.getLastError()).contains("Connection refused");
+        assertThat(second.getAttempts()).isEqualTo(3);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatusEnum.FAILED);
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+        verify(outboxEventRepository, never()).markSent(anyCollection(), any());
+        verify(outboxEventRepository, times(1))
+                .findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(any(), any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should cap the retry backoff at max-backoff")
+    void shouldCapBackoff() {
+        // Given
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", 10);
+        OutboxEvent event = event(1L, 4);
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(), any(), any(Limit.class)))
+                .thenReturn(List.of(event));
+        doThrow(new ResourceAccessException("timeout"))
+                .when(externalIntegrationService).sendToProductB(any(byte[].class));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        assertThat(event.getNextAttemptAt()).isEqualTo(now().plusSeconds(3));
+    }
+
+    @Test
+    @DisplayName("Should send due events as JSON array batches bounded by max-size and max-in-flight")
+    void shouldSendEventsInBulk() {
+        // Given
+        ReflectionTestUtils.setField(outboxService, "bulkEnabled", true);
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(OutboxStatusEnum.PENDING), eq(now()), eq(Limit.of(4))))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0), event(3L, 0)));
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        ArgumentCaptor<List<byte[]>> batches = ArgumentCaptor.captor();
+        verify(externalIntegrationService, times(2)).sendBatchToProductB(batches.capture());
+        assertThat(batches.getAllValues()).satisfiesExactly(
+                first -> assertThat(first).containsExactly(payload(1L), payload(2L)),
+                second -> assertThat(second).containsExactly(payload(3L)));
+        verify(externalIntegrationService, never()).sendToProductB(any(byte[].class));
+        verify(outboxEventRepository).markSent(List.of(1L, 2L, 3L), now());
+        DistributionSummary fillRatio = meterRegistry.get("productb.batch.fill.ratio").summary();
+        assertThat(fillRatio.count()).isEqualTo(2);
+        assertThat(fillRatio.totalAmount()).isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("Should hold a partial batch until the linger elapses")
+    void shouldLingerOnPartialBatch() {
+        // Given
+        ReflectionTestUtils.setField(outboxService, "bulkEnabled", true);
+        OutboxEvent recent = event(1L, 0);
+        recent.setNextAttemptAt(now().minusNanos(100_000_000));
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(), any(), any(Limit.class)))
+                .thenReturn(List.of(recent));
+
+        // When
+        outboxService.dispatch();
+        recent.setNextAttemptAt(now().minusNanos(500_000_000));
+        outboxService.dispatch();
+
+        // Then
+        verify(externalIntegrationService, times(1)).sendBatchToProductB(anyList());
+        verify(outboxEventRepository, times(1)).markSent(List.of(1L), now());
+    }
+
+    @Test
+    @DisplayName("Should retry every event of a failed bulk request")
+    void shouldRetryFailedBulkRequest() {
+        // Given
+        ReflectionTestUtils.setField(outboxService, "bulkEnabled", true);
+        OutboxEvent first = event(1L, 0);
+        OutboxEvent second = event(2L, 0);
+        when(outboxEventRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                any(), any(), any(Limit.class)))
+                .thenReturn(List.of(first, second));
+        doThrow(new ResourceAccessException("Connection refused"))
+                .when(externalIntegrationService).sendBatchToProductB(anyList());
+
+        // When
+        outboxService.dispatch();
+
+        // Then
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isEqualTo(1);
+        verify(outboxEventRepository).saveAll(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should purge sent events older than the retention")
+    void shouldPurgeSentEvents() {
+        // When
+        outboxService.purge();
+
+        // Then
+        verify(outboxEventRepository).deleteSentBefore(now().minusDays(7));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+    }
+
+    private byte[] payload(Long id) {
+        return ("{\"orderId\":\"" + id + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private OutboxEvent event(Long id, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .orderId(id)
+                .externalId("ORD-" + id)
+                .payload(payload(id))
+                .status(OutboxStatusEnum.PENDING)
+                .attempts(attempts)
+                .createdAt(now())
+                .nextAttemptAt(now())
+                .build();
+    }
+}
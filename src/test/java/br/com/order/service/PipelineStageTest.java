@@ -0,0 +1,131 @@
+package br.com.order.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PipelineStage Unit Tests")
+class PipelineStageTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch gate;
+    private PipelineStage<Integer> stage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gate = new CountDownLatch(1);
+        stage = new PipelineStage<>("test", 1, 1, value -> {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (value < 0) {
+                throw new IllegalArgumentException("negativo");
+            }
+            return value * 2;
+        }, meterRegistry);
+        stage.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        stage.stop();
+    }
+
+    @Test
+    @DisplayName("Should block the submitter while the queue is full")
+    void shouldPushBackWhenFull() throws Exception {
+        // Given
+        CompletableFuture<Integer> first = stage.submit(1);
+        await(() -> meterRegistry.get("order.pipeline.queue.depth").tag("stage", "test").gauge().value() == 0);
+        CompletableFuture<Integer> second = stage.submit(2);
+
+        // When
+        CompletableFuture<CompletableFuture<Integer>> third = CompletableFuture.supplyAsync(() -> stage.submit(3));
+
+        // Then
+        assertThat(meterRegistry.get("order.pipeline.queue.depth").tag("stage", "test").gauge().value())
+                .isEqualTo(1);
+        assertThatThrownBy(() -> third.get(200, TimeUnit.MILLISECONDS))
+                .isInstanceOf(TimeoutException.class);
+
+        gate.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(4);
+        assertThat(third.get(1, TimeUnit.SECONDS).get(1, TimeUnit.SECONDS)).isEqualTo(6);
+        await(() -> meterRegistry.get("order.pipeline.stage.duration").tag("stage", "test").timer().count() == 3);
+        assertThat(meterRegistry.get("order.pipeline.stage.duration").tag("stage", "test").timer().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should complete the future exceptionally and keep the worker alive when the handler fails")
+    void shouldPropagateFailures() throws Exception {
+        // Given
+        gate.countDown();
+
+        // When
+        CompletableFuture<Integer> failed = stage.submit(-1);
+        CompletableFuture<Integer> next = stage.submit(5);
+
+        // Then
+        assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should record the stage duration before the dependent stages run")
+    void shouldRecordDurationBeforeCompleting() throws Exception {
+        // Given
+        CompletableFuture<Integer> result = stage.submit(1);
+        CompletableFuture<Long> recordedWhenCompleted = result.thenApply(value ->
+                meterRegistry.get("order.pipeline.stage.duration").tag("stage", "test").timer().count());
+
+        // When
+        gate.countDown();
+
+        // Then
+        assertThat(recordedWhenCompleted.get(1, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail the queued tasks and reject new ones when stopped")
+    void shouldFailPendingTasksOnStop() throws Exception {
+        // Given
+        CompletableFuture<Integer> running = stage.submit(1);
+        await(() -> meterRegistry.get("order.pipeline.queue.depth").tag("stage", "test").gauge().value() == 0);
+        CompletableFuture<Integer> queued = stage.submit(2);
+
+        // When
+        stage.stop();
+
+        // Then
+        assertThatThrownBy(() -> queued.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> stage.submit(3).get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.order.service;
+
+import br.com.order.exception.ProductNotFoundException;
+import br.com.order.model.Product;
+import br.com.order.model.ProductSnapshot;
+import br.com.order.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalog Unit Tests")
+class ProductCatalogTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductCatalog productCatalog;
+
+    @Test
+    @DisplayName("Should serve snapshots from memory after loading the catalog")
+    void shouldServeSnapshotsFromMemory() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("PROD-001", "3500.00", 0L)));
+        productCatalog.load();
+
+        // When
+        ProductSnapshot first = productCatalog.get("PROD-001");
+        ProductSnapshot second = productCatalog.get("PROD-001");
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.unitPrice()).isEqualByComparingTo("3500.00");
+        verify(productRepository, never()).findByProductId(anyString());
+    }
+
+    @Test
+    @DisplayName("Should load unknown products once and throw when they do not exist")
+    void shouldLoadMissingProductsOnDemand() {
+        // Given
+        when(productRepository.findByProductId("PROD-001"))
+                .thenReturn(Optional.of(product("PROD-001", "3500.00", 0L)));
+        when(productRepository.findByProductId("PROD-999")).thenReturn(Optional.empty());
+
+        // When
+        productCatalog.get("PROD-001");
+        productCatalog.get("PROD-001");
+
+        // Then
+        verify(productRepository, times(1)).findByProductId("PROD-001");
+        assertThatThrownBy(() -> productCatalog.get("PROD-999"))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("PROD-999");
+    }
+
+    @Test
+    @DisplayName("Should fetch only missing products in a single query for batches")
+    void shouldFetchOnlyMissingProductsForBatches() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("PROD-001", "3500.00", 0L)));
+        when(productRepository.findByProductIdIn(List.of("PROD-002")))
+                .thenReturn(List.of(product("PROD-002", "150.00", 0L)));
+        productCatalog.load();
+
+        // When
+        Map<String, ProductSnapshot> snapshots = productCatalog.getAll(Set.of("PROD-001", "PROD-002"));
+
+        // Then
+        assertThat(snapshots).containsOnlyKeys("PROD-001", "PROD-002");
+        verify(productRepository, times(1)).findByProductIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should replace snapshots copy-on-write without mutating previous reads")
+    void shouldRefreshCopyOnWrite() {
+        // Given
+        when(productRepository.findAll()).thenReturn(List.of(product("PROD-001", "3500.00", 1L)));
+        productCatalog.load();
+        ProductSnapshot before = productCatalog.get("PROD-001");
+
+        // When
+        productCatalog.refresh(product("PROD-001", "3200.00", 2L));
+        productCatalog.refresh(product("PROD-001", "9999.00", 0L));
+
+        // Then
+        assertThat(before.unitPrice()).isEqualByComparingTo("3500.00");
+        assertThat(productCatalog.get("PROD-001").unitPrice()).isEqualByComparingTo("3200.00");
+        assertThat(productCatalog.get("PROD-001").version()).isEqualTo(2L);
+    }
+
+    private Product product(String productId, String unitPrice, Long version) {
+        return Product.builder()
+                .productId(productId)
+                .productName("Produto " + productId)
+                .quantity(10)
+                .unitPrice(new BigDecimal(unitPrice))
+                .version(version)
+                .build();
+    }
+}
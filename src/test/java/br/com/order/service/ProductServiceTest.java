@@ -37,6 +37,9 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductCatalog productCatalog;
+
     @InjectMocks
     private ProductService productService;
 
@@ -93,6 +96,7 @@ class ProductServiceTest {
 
         verify(productRepository).findByProductId("PROD-001");
         verify(productRepository).save(any(Product.class));
+        verify(productCatalog).refresh(product);
         verify(productMapper).toDto(product);
     }
 
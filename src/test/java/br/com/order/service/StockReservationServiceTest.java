@@ -0,0 +1,79 @@
+package br.com.order.service;
+
+import br.com.order.enums.StockModeEnum;
+import br.com.order.exception.InsufficientStockException;
+import br.com.order.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockReservationService Unit Tests")
+class StockReservationServiceTest {
+
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    @Test
+    @DisplayName("Should reserve through the in-memory ledger in LEDGER mode")
+    void shouldReserveThroughLedger() {
+        // Given
+        ReflectionTestUtils.setField(stockReservationService, "stockMode", StockModeEnum.LEDGER);
+
+        // When
+        stockReservationService.reserve(Map.of("PROD-001", 2));
+
+        // Then
+        verify(inventoryLedgerService).reserve(Map.of("PROD-001", 2));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should decrement every item in one guarded batch in DATABASE mode")
+    void shouldDecrementInOneBatch() {
+        // Given
+        ReflectionTestUtils.setField(stockReservationService, "stockMode", StockModeEnum.DATABASE);
+        when(productRepository.decrementStock(any())).thenReturn(new int[]{1, 1});
+
+        // When
+        stockReservationService.reserve(Map.of("PROD-002", 1, "PROD-001", 2));
+
+        // Then
+        verify(productRepository).decrementStock(new TreeMap<>(Map.of("PROD-001", 2, "PROD-002", 1)));
+        verify(productRepository, never()).incrementStock(any());
+        verifyNoInteractions(inventoryLedgerService);
+    }
+
+    @Test
+    @DisplayName("Should undo applied decrements and throw when a guarded update affects no row")
+    void shouldUndoAndThrowWhenStockIsInsufficient() {
+        // Given
+        ReflectionTestUtils.setField(stockReservationService, "stockMode", StockModeEnum.DATABASE);
+        when(productRepository.decrementStock(any())).thenReturn(new int[]{1, 0});
+
+        // When & Then
+        assertThatThrownBy(() -> stockReservationService.reserve(Map.of("PROD-001", 2, "PROD-002", 5)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("PROD-002")
+                .hasMessageContaining("Solicitado: 5");
+
+        verify(productRepository).incrementStock(new TreeMap<>(Map.of("PROD-001", 2)));
+    }
+}